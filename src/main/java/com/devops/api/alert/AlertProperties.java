@@ -0,0 +1,38 @@
+package com.devops.api.alert;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.alerts")
+public class AlertProperties {
+
+    /** Evaluate stock alert rules on every quantity change. */
+    private boolean enabled = true;
+
+    /** A rule does not re-trigger for the same product within this window. */
+    private Duration debounce = Duration.ofMinutes(5);
+
+    /** Upper bound on product plus category rules. */
+    private int maxRules = 100_000;
+
+    /** Alerts waiting for delivery; further alerts are dropped and counted. */
+    private int queueCapacity = 1024;
+
+    /** Names of the sinks that receive alerts: log, sse, webhook. */
+    private List<String> sinks = new ArrayList<>(List.of("log", "sse"));
+
+    /** Target of the webhook sink; alerts are POSTed as JSON. */
+    private String webhookUrl = "";
+
+    private Duration webhookTimeout = Duration.ofSeconds(2);
+
+    /** How long an alert stream subscription stays open. */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,13 @@
+package com.devops.api.alert;
+
+/**
+ * Alert when a product's quantity drops below {@code threshold}. A PRODUCT
+ * rule watches one product, a CATEGORY rule every product in the category;
+ * when both exist for a product, both are evaluated independently.
+ */
+public record AlertRule(long id, RuleScope scope, Long productId, String category, int threshold) {
+
+    boolean isBelow(Integer quantity) {
+        return quantity != null && quantity < threshold;
+    }
+}
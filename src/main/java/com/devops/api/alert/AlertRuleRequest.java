@@ -0,0 +1,11 @@
+package com.devops.api.alert;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/** Alert when quantity drops below {@code threshold}. */
+public record AlertRuleRequest(
+        @NotNull(message = "threshold is required")
+        @Min(value = 1, message = "threshold must be at least 1")
+        Integer threshold) {
+}
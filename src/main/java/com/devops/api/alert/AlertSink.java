@@ -0,0 +1,13 @@
+package com.devops.api.alert;
+
+/**
+ * Destination for stock alerts. Beans implementing this are picked up by name
+ * through {@code app.alerts.sinks}; they are called from the single alert
+ * delivery thread, never from the write path.
+ */
+public interface AlertSink {
+
+    String name();
+
+    void send(StockAlert alert);
+}
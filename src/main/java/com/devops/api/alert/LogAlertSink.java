@@ -0,0 +1,21 @@
+package com.devops.api.alert;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class LogAlertSink implements AlertSink {
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void send(StockAlert alert) {
+        log.warn("Stock alert {}: product {} '{}' ({}) quantity {} -> {}, {} rule {} threshold {}",
+                alert.type(), alert.productId(), alert.productName(), alert.category(),
+                alert.previousQuantity(), alert.quantity(), alert.scope(), alert.ruleId(), alert.threshold());
+    }
+}
@@ -0,0 +1,6 @@
+package com.devops.api.alert;
+
+public enum RuleScope {
+    PRODUCT,
+    CATEGORY
+}
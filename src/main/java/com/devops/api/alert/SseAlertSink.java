@@ -0,0 +1,61 @@
+package com.devops.api.alert;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** Pushes alerts to {@code /api/v1/alerts/stream} subscribers. */
+@Component
+public class SseAlertSink implements AlertSink {
+
+    private final AlertProperties properties;
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    public SseAlertSink(AlertProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("products.alerts.subscribers", subscribers, List::size)
+                .description("Connected stock alert stream subscribers")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(ex -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        return emitter;
+    }
+
+    @Override
+    public String name() {
+        return "sse";
+    }
+
+    @Override
+    public void send(StockAlert alert) {
+        String eventName = alert.type().name().toLowerCase(Locale.ROOT);
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(alert, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException ex) {
+                subscribers.remove(emitter);
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+}
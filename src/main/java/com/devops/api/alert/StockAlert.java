@@ -0,0 +1,22 @@
+package com.devops.api.alert;
+
+import java.time.Instant;
+
+/** One threshold crossing: TRIGGERED on the way down, RECOVERED on the way back up. */
+public record StockAlert(
+        Type type,
+        long ruleId,
+        RuleScope scope,
+        int threshold,
+        long productId,
+        String productName,
+        String category,
+        Integer previousQuantity,
+        int quantity,
+        Instant at) {
+
+    public enum Type {
+        TRIGGERED,
+        RECOVERED
+    }
+}
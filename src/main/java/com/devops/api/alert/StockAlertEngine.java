@@ -0,0 +1,260 @@
+package com.devops.api.alert;
+
+import com.devops.api.catalog.CatalogListener;
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Edge-triggered low-stock alerts, evaluated on each committed quantity change.
+ *
+ * Rules are held in two hash maps, by product id and by category, so a write
+ * costs at most two lookups however many rules exist. A rule fires when a
+ * quantity goes from at-or-above its threshold to below it, and recovers on
+ * the way back; repeated crossings by one product within the debounce window
+ * are suppressed. Changes arrive through the {@link ProductCatalogIndex}, which
+ * serializes them per product and supplies the exact previous quantity.
+ * Per-product state is grouped by rule, so replacing or removing a rule drops
+ * its state in one step. Delivery to the sinks happens on a separate bounded
+ * queue.
+ */
+@Component
+@Slf4j
+public class StockAlertEngine implements CatalogListener {
+
+    private final AlertProperties properties;
+    private final ProductCatalogIndex index;
+    private final List<AlertSink> sinks;
+    private final Map<Long, AlertRule> productRules = new ConcurrentHashMap<>();
+    private final Map<String, AlertRule> categoryRules = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, AlertState>> states = new ConcurrentHashMap<>();
+    private final AtomicLong ruleIds = new AtomicLong();
+    private final ThreadPoolExecutor delivery;
+    private final Counter triggered;
+    private final Counter recovered;
+    private final Counter suppressed;
+    private final Counter dropped;
+
+    public StockAlertEngine(AlertProperties properties, List<AlertSink> sinks,
+                            ProductCatalogIndex index, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.index = index;
+        this.sinks = sinks.stream().filter(sink -> properties.getSinks().contains(sink.name())).toList();
+        this.delivery = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "stock-alerts");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        index.addListener(this);
+
+        Gauge.builder("products.alerts.rules", this, StockAlertEngine::ruleCount)
+                .description("Product and category stock alert rules")
+                .register(meterRegistry);
+        this.triggered = alertCounter(meterRegistry, StockAlert.Type.TRIGGERED);
+        this.recovered = alertCounter(meterRegistry, StockAlert.Type.RECOVERED);
+        this.suppressed = Counter.builder("products.alerts.suppressed")
+                .description("Threshold crossings suppressed by the debounce window")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("products.alerts.dropped")
+                .description("Alerts discarded because the delivery queue was full")
+                .register(meterRegistry);
+        log.info("Stock alerts deliver to sinks {}", this.sinks.stream().map(AlertSink::name).toList());
+    }
+
+    // ─── Rules ───────────────────────────────────────────────────────────────
+
+    public AlertRule putProductRule(long productId, int threshold) {
+        if (index.isLoaded() && index.get(productId) == null) {
+            throw new ResourceNotFoundException("Product", productId);
+        }
+        return put(productRules, productId, existing -> new AlertRule(
+                existing != null ? existing.id() : ruleIds.incrementAndGet(),
+                RuleScope.PRODUCT, productId, null, threshold));
+    }
+
+    public AlertRule putCategoryRule(String category, int threshold) {
+        return put(categoryRules, category, existing -> new AlertRule(
+                existing != null ? existing.id() : ruleIds.incrementAndGet(),
+                RuleScope.CATEGORY, null, category, threshold));
+    }
+
+    public boolean removeProductRule(long productId) {
+        return forgetRule(productRules.remove(productId));
+    }
+
+    public boolean removeCategoryRule(String category) {
+        return forgetRule(categoryRules.remove(category));
+    }
+
+    public List<AlertRule> rules() {
+        return Stream.concat(productRules.values().stream(), categoryRules.values().stream())
+                .sorted(Comparator.comparingLong(AlertRule::id))
+                .toList();
+    }
+
+    public int ruleCount() {
+        return productRules.size() + categoryRules.size();
+    }
+
+    private <K> AlertRule put(Map<K, AlertRule> rules, K key, Function<AlertRule, AlertRule> factory) {
+        if (!rules.containsKey(key) && ruleCount() >= properties.getMaxRules()) {
+            throw new IllegalArgumentException("Alert rule limit of " + properties.getMaxRules() + " reached");
+        }
+        AlertRule rule = rules.compute(key, (ignored, existing) -> factory.apply(existing));
+        // A changed threshold starts from a clean slate for every product
+        states.remove(rule.id());
+        return rule;
+    }
+
+    private boolean forgetRule(AlertRule rule) {
+        if (rule == null) {
+            return false;
+        }
+        states.remove(rule.id());
+        return true;
+    }
+
+    // ─── Evaluation ──────────────────────────────────────────────────────────
+
+    @Override
+    public void onChange(ProductSnapshot previous, ProductSnapshot current) {
+        if (!properties.isEnabled() || ruleCount() == 0) {
+            return;
+        }
+        if (current == null) {
+            forgetProduct(previous);
+            return;
+        }
+        boolean quantityChanged = previous == null || !Objects.equals(previous.quantity(), current.quantity());
+        boolean categoryChanged = previous != null && !Objects.equals(previous.category(), current.category());
+        if (!quantityChanged && !categoryChanged) {
+            return;
+        }
+        Integer before = previous != null ? previous.quantity() : null;
+        evaluate(productRules.get(current.id()), before, current);
+        if (categoryChanged) {
+            // Entering a category counts as arriving from above its threshold
+            forgetState(categoryRules.get(previous.category()), current.id());
+            evaluate(categoryRules.get(current.category()), null, current);
+        } else {
+            evaluate(categoryRules.get(current.category()), before, current);
+        }
+    }
+
+    @Override
+    public void onReload(Collection<ProductSnapshot> products) {
+        // Alerts are about crossings; a reload has no previous quantities to compare
+    }
+
+    private void evaluate(AlertRule rule, Integer before, ProductSnapshot current) {
+        if (rule == null) {
+            return;
+        }
+        boolean wasBelow = rule.isBelow(before);
+        boolean isBelow = rule.isBelow(current.quantity());
+        if (wasBelow == isBelow) {
+            return;
+        }
+        Map<Long, AlertState> ruleStates = states.computeIfAbsent(rule.id(), id -> new ConcurrentHashMap<>());
+        AlertState state = ruleStates.get(current.id());
+        Instant now = Instant.now();
+        if (isBelow) {
+            if (state != null && state.lastTriggered().plus(properties.getDebounce()).isAfter(now)) {
+                suppressed.increment();
+                return;
+            }
+            ruleStates.put(current.id(), new AlertState(now, true));
+            triggered.increment();
+            dispatch(alert(StockAlert.Type.TRIGGERED, rule, before, current, now));
+        } else if (state != null && state.active()) {
+            ruleStates.put(current.id(), new AlertState(state.lastTriggered(), false));
+            recovered.increment();
+            dispatch(alert(StockAlert.Type.RECOVERED, rule, before, current, now));
+        }
+    }
+
+    private void forgetProduct(ProductSnapshot product) {
+        if (product == null) {
+            return;
+        }
+        AlertRule productRule = productRules.remove(product.id());
+        if (productRule != null) {
+            forgetRule(productRule);
+        }
+        forgetState(categoryRules.get(product.category()), product.id());
+    }
+
+    private void forgetState(AlertRule rule, long productId) {
+        if (rule == null) {
+            return;
+        }
+        Map<Long, AlertState> ruleStates = states.get(rule.id());
+        if (ruleStates != null) {
+            ruleStates.remove(productId);
+        }
+    }
+
+    private static StockAlert alert(StockAlert.Type type, AlertRule rule, Integer before,
+                                    ProductSnapshot current, Instant at) {
+        return new StockAlert(type, rule.id(), rule.scope(), rule.threshold(), current.id(), current.name(),
+                current.category(), before, current.quantity(), at);
+    }
+
+    // ─── Delivery ────────────────────────────────────────────────────────────
+
+    private void dispatch(StockAlert alert) {
+        try {
+            delivery.execute(() -> deliver(alert));
+        } catch (RejectedExecutionException ex) {
+            dropped.increment();
+        }
+    }
+
+    private void deliver(StockAlert alert) {
+        for (AlertSink sink : sinks) {
+            try {
+                sink.send(alert);
+            } catch (RuntimeException ex) {
+                log.warn("Stock alert sink '{}' failed: {}", sink.name(), ex.getMessage());
+            }
+        }
+    }
+
+    private static Counter alertCounter(MeterRegistry meterRegistry, StockAlert.Type type) {
+        return Counter.builder("products.alerts")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .description("Stock alerts raised, by edge")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        delivery.shutdown();
+    }
+
+    private record AlertState(Instant lastTriggered, boolean active) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.devops.api.alert;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * POSTs each alert as JSON to {@code app.alerts.webhook-url}. Delivery is
+ * fire-and-forget: failures are logged, not retried.
+ */
+@Component
+@Slf4j
+public class WebhookAlertSink implements AlertSink {
+
+    private final AlertProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+
+    public WebhookAlertSink(AlertProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder().connectTimeout(properties.getWebhookTimeout()).build();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void send(StockAlert alert) {
+        if (properties.getWebhookUrl().isBlank()) {
+            return;
+        }
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(alert);
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize stock alert: {}", ex.getMessage());
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(properties.getWebhookUrl()))
+                .timeout(properties.getWebhookTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("Stock alert webhook failed: {}", ex.getMessage());
+                    } else if (response.statusCode() >= 300) {
+                        log.warn("Stock alert webhook returned {}", response.statusCode());
+                    }
+                });
+    }
+}
@@ -0,0 +1,26 @@
+package com.devops.api.analytics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    /** Rows read from the database per keyset page. */
+    private int chunkSize = 10_000;
+
+    /** Chunks read ahead of the fork/join workers; bounds memory per report. */
+    private int maxChunksInFlight = 4;
+
+    /** Fork/join worker threads; 0 means one per available processor. */
+    private int parallelism = 0;
+
+    /** Rows below which a task is aggregated directly instead of being split. */
+    private int splitThreshold = 2_048;
+
+    /** Relative error of the quantile sketches (0.01 = within 1% of the true value). */
+    private double relativeAccuracy = 0.01;
+}
@@ -0,0 +1,136 @@
+package com.devops.api.analytics;
+
+import com.devops.api.stock.StockStatus;
+import com.devops.api.stock.StockThresholds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Partial inventory aggregate over any subset of rows. Two accumulators over
+ * disjoint rows merge into the accumulator of their union, which is what lets
+ * fork/join split a chunk arbitrarily.
+ */
+final class InventoryAccumulator {
+
+    /** Quantity histogram bucket i > 0 holds [2^(i-1), 2^i - 1]; bucket 0 holds zero. */
+    static final int QUANTITY_BUCKETS = 32;
+
+    private final double relativeAccuracy;
+    private final int topN;
+
+    long products;
+    long units;
+    long valueCents;
+    final long[] quantityHistogram = new long[QUANTITY_BUCKETS];
+    final long[] statusCounts = new long[StockStatus.values().length];
+    final QuantileSketch valueSketch;
+    CategoryAccumulator[] categories = new CategoryAccumulator[8];
+    /** Min-heap on value, so the smallest of the current top N is evicted first. */
+    final PriorityQueue<TopEntry> top = new PriorityQueue<>(Comparator.comparingLong(TopEntry::valueCents));
+
+    InventoryAccumulator(double relativeAccuracy, int topN) {
+        this.relativeAccuracy = relativeAccuracy;
+        this.topN = topN;
+        this.valueSketch = new QuantileSketch(relativeAccuracy);
+    }
+
+    void add(InventoryChunk chunk, int from, int to, StockThresholds thresholds) {
+        for (int i = from; i < to; i++) {
+            long price = chunk.priceCents[i];
+            int quantity = chunk.quantities[i];
+            long value = Math.multiplyExact(price, (long) quantity);
+
+            products++;
+            units += quantity;
+            valueCents += value;
+            quantityHistogram[quantity <= 0 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(quantity)]++;
+            statusCounts[thresholds.classify(quantity).ordinal()]++;
+            valueSketch.add(value);
+            category(chunk.categories[i]).add(price, quantity, value);
+            offerTop(value, chunk.ids[i], chunk.categories[i], price, quantity);
+        }
+    }
+
+    void merge(InventoryAccumulator other) {
+        products += other.products;
+        units += other.units;
+        valueCents += other.valueCents;
+        for (int i = 0; i < QUANTITY_BUCKETS; i++) {
+            quantityHistogram[i] += other.quantityHistogram[i];
+        }
+        for (int i = 0; i < statusCounts.length; i++) {
+            statusCounts[i] += other.statusCounts[i];
+        }
+        valueSketch.merge(other.valueSketch);
+        for (int id = 0; id < other.categories.length; id++) {
+            if (other.categories[id] != null) {
+                category(id).merge(other.categories[id]);
+            }
+        }
+        other.top.forEach(entry -> offerTop(entry.valueCents(), entry.id(), entry.category(),
+                entry.priceCents(), entry.quantity()));
+    }
+
+    /** Top entries, highest value first. */
+    List<TopEntry> topDescending() {
+        List<TopEntry> entries = new ArrayList<>(top);
+        entries.sort(Comparator.comparingLong(TopEntry::valueCents).reversed().thenComparingLong(TopEntry::id));
+        return entries;
+    }
+
+    CategoryAccumulator category(int id) {
+        if (id >= categories.length) {
+            categories = Arrays.copyOf(categories, Math.max(id + 1, categories.length * 2));
+        }
+        CategoryAccumulator category = categories[id];
+        if (category == null) {
+            category = new CategoryAccumulator(new QuantileSketch(relativeAccuracy));
+            categories[id] = category;
+        }
+        return category;
+    }
+
+    private void offerTop(long value, long id, int category, long price, int quantity) {
+        if (topN == 0) {
+            return;
+        }
+        if (top.size() < topN) {
+            top.add(new TopEntry(value, id, category, price, quantity));
+        } else if (value > top.peek().valueCents()) {
+            top.poll();
+            top.add(new TopEntry(value, id, category, price, quantity));
+        }
+    }
+
+    record TopEntry(long valueCents, long id, int category, long priceCents, int quantity) {
+    }
+
+    static final class CategoryAccumulator {
+        long products;
+        long units;
+        long valueCents;
+        final QuantileSketch priceSketch;
+
+        CategoryAccumulator(QuantileSketch priceSketch) {
+            this.priceSketch = priceSketch;
+        }
+
+        void add(long price, int quantity, long value) {
+            products++;
+            units += quantity;
+            valueCents += value;
+            priceSketch.add(price);
+        }
+
+        void merge(CategoryAccumulator other) {
+            products += other.products;
+            units += other.units;
+            valueCents += other.valueCents;
+            priceSketch.merge(other.priceSketch);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.devops.api.analytics;
+
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import com.devops.api.stock.StockStatus;
+import com.devops.api.stock.StockThresholds;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the inventory report by streaming the catalog in keyset pages and
+ * aggregating each page on a fork/join pool while the next one is read.
+ *
+ * At most {@code maxChunksInFlight} pages are held at once, so memory does not
+ * grow with the catalog. Pages are read in separate short read-only
+ * transactions; the report is not a point-in-time snapshot.
+ */
+@Component
+public class InventoryAnalytics {
+
+    static final double[] PERCENTILES = {0.25, 0.5, 0.75, 0.9, 0.99};
+
+    /** Returns up to {@code limit} rows with id greater than {@code afterId}, ordered by id. */
+    @FunctionalInterface
+    interface PageSource {
+        List<InventoryRow> next(long afterId, int limit);
+    }
+
+    private final ProductRepository productRepository;
+    private final StockThresholds thresholds;
+    private final AnalyticsProperties properties;
+    private final ForkJoinPool pool;
+    private final Timer reportTimer;
+
+    public InventoryAnalytics(ProductRepository productRepository, StockThresholds thresholds,
+                              AnalyticsProperties properties, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.thresholds = thresholds;
+        this.properties = properties;
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.reportTimer = Timer.builder("products.analytics.report")
+                .description("Time to build the inventory report")
+                .register(meterRegistry);
+    }
+
+    public InventoryReport report(int topN) {
+        long start = System.nanoTime();
+        Map<String, Integer> categoryIds = new HashMap<>();
+        InventoryAccumulator total = analyze(
+                (afterId, limit) -> productRepository.findInventoryPage(afterId, PageRequest.of(0, limit)),
+                categoryIds, topN);
+        long elapsed = System.nanoTime() - start;
+        reportTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        return toReport(total, categoryIds, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    InventoryAccumulator analyze(PageSource source, Map<String, Integer> categoryIds, int topN) {
+        int chunkSize = properties.getChunkSize();
+        Deque<ForkJoinTask<InventoryAccumulator>> inFlight = new ArrayDeque<>();
+        InventoryAccumulator total = new InventoryAccumulator(properties.getRelativeAccuracy(), topN);
+        long afterId = Long.MIN_VALUE;
+        List<InventoryRow> rows;
+        do {
+            rows = source.next(afterId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            InventoryChunk chunk = InventoryChunk.of(rows, categoryIds);
+            afterId = chunk.ids[chunk.size - 1];
+            inFlight.add(pool.submit(new ChunkTask(chunk, 0, chunk.size, topN)));
+            if (inFlight.size() >= properties.getMaxChunksInFlight()) {
+                total.merge(inFlight.poll().join());
+            }
+        } while (rows.size() == chunkSize);
+
+        while (!inFlight.isEmpty()) {
+            total.merge(inFlight.poll().join());
+        }
+        return total;
+    }
+
+    private InventoryReport toReport(InventoryAccumulator total, Map<String, Integer> categoryIds, long elapsedMillis) {
+        String[] categoryNames = new String[categoryIds.size()];
+        categoryIds.forEach((name, id) -> categoryNames[id] = name);
+
+        Map<StockStatus, Long> stockStatus = new EnumMap<>(StockStatus.class);
+        for (StockStatus status : StockStatus.values()) {
+            stockStatus.put(status, total.statusCounts[status.ordinal()]);
+        }
+
+        List<InventoryReport.HistogramBucket> histogram = new ArrayList<>();
+        for (int i = 0; i < InventoryAccumulator.QUANTITY_BUCKETS; i++) {
+            if (total.quantityHistogram[i] > 0) {
+                long from = i == 0 ? 0 : 1L << (i - 1);
+                long to = i == 0 ? 0 : (1L << i) - 1;
+                histogram.add(new InventoryReport.HistogramBucket(from, to, total.quantityHistogram[i]));
+            }
+        }
+
+        List<InventoryReport.CategoryReport> categories = new ArrayList<>();
+        for (int id = 0; id < categoryNames.length; id++) {
+            InventoryAccumulator.CategoryAccumulator category = total.category(id);
+            categories.add(new InventoryReport.CategoryReport(categoryNames[id], category.products, category.units,
+                    cents(category.valueCents), cents(category.priceSketch.min()),
+                    cents(category.priceSketch.max()), percentiles(category.priceSketch)));
+        }
+        categories.sort((a, b) -> a.category().compareTo(b.category()));
+
+        List<InventoryAccumulator.TopEntry> topEntries = total.topDescending();
+        Map<Long, String> names = productRepository.findAllById(
+                        topEntries.stream().map(InventoryAccumulator.TopEntry::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Product::getName));
+        List<InventoryReport.TopProduct> top = topEntries.stream()
+                .map(entry -> new InventoryReport.TopProduct(entry.id(), names.get(entry.id()),
+                        categoryNames[entry.category()], cents(entry.priceCents()), entry.quantity(),
+                        cents(entry.valueCents())))
+                .toList();
+
+        return new InventoryReport(total.products, total.units, cents(total.valueCents),
+                percentiles(total.valueSketch), stockStatus, histogram, categories, top, elapsedMillis);
+    }
+
+    private static Map<String, BigDecimal> percentiles(QuantileSketch sketch) {
+        Map<String, BigDecimal> result = new LinkedHashMap<>();
+        if (sketch.count() == 0) {
+            return result;
+        }
+        for (double percentile : PERCENTILES) {
+            result.put("p" + Math.round(percentile * 100), cents(Math.round(sketch.quantile(percentile))));
+        }
+        return result;
+    }
+
+    private static BigDecimal cents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /** Splits a chunk's row range in half until it is small enough to aggregate directly. */
+    private final class ChunkTask extends RecursiveTask<InventoryAccumulator> {
+
+        private final InventoryChunk chunk;
+        private final int from;
+        private final int to;
+        private final int topN;
+
+        ChunkTask(InventoryChunk chunk, int from, int to, int topN) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+            this.topN = topN;
+        }
+
+        @Override
+        protected InventoryAccumulator compute() {
+            if (to - from <= properties.getSplitThreshold()) {
+                InventoryAccumulator accumulator = new InventoryAccumulator(properties.getRelativeAccuracy(), topN);
+                accumulator.add(chunk, from, to, thresholds);
+                return accumulator;
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(chunk, from, mid, topN);
+            left.fork();
+            InventoryAccumulator right = new ChunkTask(chunk, mid, to, topN).compute();
+            InventoryAccumulator result = left.join();
+            result.merge(right);
+            return result;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
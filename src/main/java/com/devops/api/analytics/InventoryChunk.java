@@ -0,0 +1,44 @@
+package com.devops.api.analytics;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of the catalog in columnar, primitive form. Prices are held in
+ * cents and categories as dense ids, so aggregation never touches BigDecimal
+ * or String.
+ */
+final class InventoryChunk {
+
+    final int size;
+    final long[] ids;
+    final int[] categories;
+    final long[] priceCents;
+    final int[] quantities;
+
+    private InventoryChunk(int size) {
+        this.size = size;
+        this.ids = new long[size];
+        this.categories = new int[size];
+        this.priceCents = new long[size];
+        this.quantities = new int[size];
+    }
+
+    /** Converts a page, assigning the next free id to categories seen for the first time. */
+    static InventoryChunk of(List<InventoryRow> rows, Map<String, Integer> categoryIds) {
+        InventoryChunk chunk = new InventoryChunk(rows.size());
+        for (int i = 0; i < chunk.size; i++) {
+            InventoryRow row = rows.get(i);
+            chunk.ids[i] = row.id();
+            chunk.categories[i] = categoryIds.computeIfAbsent(row.category(), key -> categoryIds.size());
+            chunk.priceCents[i] = toCents(row.price());
+            chunk.quantities[i] = row.quantity() != null ? row.quantity() : 0;
+        }
+        return chunk;
+    }
+
+    static long toCents(BigDecimal price) {
+        return price != null ? price.movePointRight(2).longValue() : 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.devops.api.analytics;
+
+import com.devops.api.stock.StockStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inventory report over the whole catalog. Percentiles come from quantile
+ * sketches and are within the configured relative accuracy; counts and sums
+ * are exact.
+ */
+public record InventoryReport(
+        long products,
+        long totalUnits,
+        BigDecimal inventoryValue,
+        Map<String, BigDecimal> valuePercentiles,
+        Map<StockStatus, Long> stockStatus,
+        List<HistogramBucket> quantityHistogram,
+        List<CategoryReport> categories,
+        List<TopProduct> topByValue,
+        long elapsedMillis) {
+
+    public record CategoryReport(
+            String category,
+            long products,
+            long totalUnits,
+            BigDecimal inventoryValue,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Map<String, BigDecimal> pricePercentiles) {
+    }
+
+    /** Products whose quantity is in [from, to]. */
+    public record HistogramBucket(long from, long to, long count) {
+    }
+
+    public record TopProduct(
+            Long id,
+            String name,
+            String category,
+            BigDecimal price,
+            int quantity,
+            BigDecimal inventoryValue) {
+    }
+}
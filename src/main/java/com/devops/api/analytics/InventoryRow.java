@@ -0,0 +1,7 @@
+package com.devops.api.analytics;
+
+import java.math.BigDecimal;
+
+/** Columns needed by the inventory report; read instead of full entities. */
+public record InventoryRow(Long id, String category, BigDecimal price, Integer quantity) {
+}
@@ -0,0 +1,106 @@
+package com.devops.api.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch over non-negative longs with a relative error
+ * guarantee (the DDSketch bucketing scheme).
+ *
+ * A value v lands in bucket ceil(log_gamma(v)) with gamma = (1 + a) / (1 - a),
+ * so any quantile is reported within a factor of (1 ± a) of the true value.
+ * Buckets are plain counters, which makes merging two sketches an array add
+ * and keeps the sketch small: prices up to 10^10 cents need ~1,200 buckets at 1%.
+ */
+public final class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private long[] counts = new long[64];
+    private long zeroCount;
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be in (0, 1)");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("QuantileSketch only accepts non-negative values");
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (value == 0) {
+            zeroCount++;
+            return;
+        }
+        int bucket = (int) Math.ceil(Math.log(value) / logGamma);
+        if (bucket >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(bucket + 1, counts.length * 2));
+        }
+        counts[bucket]++;
+    }
+
+    /** Adds all values of {@code other} into this sketch. Both must use the same accuracy. */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /** Estimated value at quantile {@code q} in [0, 1]; NaN when the sketch is empty. */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be in [0, 1]");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (q * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen > rank) {
+                double estimate = 2 * Math.pow(gamma, bucket) / (gamma + 1);
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long min() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long max() {
+        return count == 0 ? 0 : max;
+    }
+}
@@ -0,0 +1,8 @@
+package com.devops.api.bulk;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkDeleteRequest(
+        @NotNull(message = "filter is required") @Valid ProductFilter filter) {
+}
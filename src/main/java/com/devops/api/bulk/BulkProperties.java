@@ -0,0 +1,18 @@
+package com.devops.api.bulk;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.bulk")
+public class BulkProperties {
+
+    /**
+     * Largest number of rows one bulk operation may change. Matched rows are
+     * locked and one change event is published per row, so this bounds both
+     * lock footprint and event fan-out; larger sets must be split.
+     */
+    private int maxRows = 10_000;
+}
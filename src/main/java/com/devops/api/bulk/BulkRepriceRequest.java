@@ -0,0 +1,19 @@
+package com.devops.api.bulk;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/** Changes the price of every match by {@code percent}, e.g. -10 for a 10% discount. */
+public record BulkRepriceRequest(
+        @NotNull(message = "filter is required") @Valid ProductFilter filter,
+        @NotNull(message = "percent is required")
+        @DecimalMin(value = "-99.99", message = "percent must be greater than -100")
+        @DecimalMax(value = "1000", message = "percent cannot exceed 1000")
+        @Digits(integer = 4, fraction = 2, message = "percent must have at most 2 decimal places")
+        BigDecimal percent) {
+}
@@ -0,0 +1,13 @@
+package com.devops.api.bulk;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/** Sets the quantity of every match, e.g. 0 for a discontinued category. */
+public record BulkRestockRequest(
+        @NotNull(message = "filter is required") @Valid ProductFilter filter,
+        @NotNull(message = "quantity is required")
+        @Min(value = 0, message = "Quantity cannot be negative")
+        Integer quantity) {
+}
@@ -0,0 +1,8 @@
+package com.devops.api.bulk;
+
+/**
+ * Outcome of a bulk operation. A dry run reports how many rows match and
+ * changes nothing, so {@code affected} is 0.
+ */
+public record BulkResult(String operation, boolean dryRun, long matched, long affected) {
+}
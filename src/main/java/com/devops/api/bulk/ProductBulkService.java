@@ -0,0 +1,118 @@
+package com.devops.api.bulk;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.exception.ConcurrentUpdateException;
+import com.devops.api.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Reprice, restock and delete every product matching a filter with one
+ * UPDATE or DELETE statement.
+ *
+ * The matching rows are first read FOR UPDATE, which pins their state for
+ * the change events and keeps concurrent writers off them. The statement
+ * then re-applies the same predicate; if it touches a different number of
+ * rows, something matching was inserted or changed in between and the whole
+ * operation rolls back with a conflict rather than publish incomplete events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ProductBulkService {
+
+    private static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BulkProperties properties;
+
+    public BulkResult reprice(BulkRepriceRequest request, boolean dryRun) {
+        ProductFilter filter = request.filter();
+        BigDecimal factor = BigDecimal.ONE.add(request.percent().movePointLeft(2));
+        LocalDateTime now = LocalDateTime.now();
+        return execute("reprice", filter, dryRun,
+                before -> repriced(before, factor, now),
+                () -> productRepository.repriceMatching(filter, factor, now));
+    }
+
+    public BulkResult restock(BulkRestockRequest request, boolean dryRun) {
+        ProductFilter filter = request.filter();
+        int quantity = request.quantity();
+        LocalDateTime now = LocalDateTime.now();
+        return execute("restock", filter, dryRun,
+                before -> new ProductSnapshot(before.id(), before.name(), before.description(), before.price(),
+                        quantity, before.category(), before.createdAt(), now),
+                () -> productRepository.restockMatching(filter, quantity, now));
+    }
+
+    public BulkResult delete(BulkDeleteRequest request, boolean dryRun) {
+        ProductFilter filter = request.filter();
+        return execute("delete", filter, dryRun, null, () -> productRepository.deleteMatching(filter));
+    }
+
+    /** {@code change} maps a row to its new state, or is null for deletes. */
+    private BulkResult execute(String operation, ProductFilter filter, boolean dryRun,
+                               UnaryOperator<ProductSnapshot> change, IntSupplier statement) {
+        if (filter.isEmpty()) {
+            throw new IllegalArgumentException("Bulk " + operation + " needs at least one filter criterion");
+        }
+        if (filter.minPrice() != null && filter.maxPrice() != null && filter.minPrice().compareTo(filter.maxPrice()) > 0) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+        if (dryRun) {
+            return new BulkResult(operation, true, productRepository.countMatching(filter), 0);
+        }
+
+        List<ProductSnapshot> before = productRepository.lockMatching(filter, properties.getMaxRows() + 1).stream()
+                .map(ProductSnapshot::of)
+                .toList();
+        if (before.size() > properties.getMaxRows()) {
+            throw new IllegalArgumentException("Bulk " + operation + " matches more than " + properties.getMaxRows()
+                    + " products; narrow the filter");
+        }
+        if (before.isEmpty()) {
+            return new BulkResult(operation, false, 0, 0);
+        }
+        // Computed before the statement runs so that invalid results fail without writing
+        List<ProductSnapshot> after = change != null ? before.stream().map(change).toList() : null;
+
+        int affected = statement.getAsInt();
+        if (affected != before.size()) {
+            throw new ConcurrentUpdateException("Bulk " + operation + " locked " + before.size()
+                    + " products but changed " + affected + "; matching products changed concurrently, retry");
+        }
+
+        for (int i = 0; i < before.size(); i++) {
+            eventPublisher.publishEvent(after != null
+                    ? ProductChangeEvent.updated(before.get(i), after.get(i))
+                    : ProductChangeEvent.deleted(before.get(i)));
+        }
+        log.info("Bulk {} changed {} products (filter={})", operation, affected, filter);
+        return new BulkResult(operation, false, before.size(), affected);
+    }
+
+    /** Mirrors the database's ROUND(price * factor, 2). */
+    private static ProductSnapshot repriced(ProductSnapshot before, BigDecimal factor, LocalDateTime now) {
+        BigDecimal price = before.price().multiply(factor).setScale(2, RoundingMode.HALF_UP);
+        if (price.compareTo(MIN_PRICE) < 0 || price.compareTo(MAX_PRICE) > 0) {
+            throw new IllegalArgumentException("Repricing would move product " + before.id()
+                    + " from " + before.price() + " to " + price + ", outside the allowed range");
+        }
+        return new ProductSnapshot(before.id(), before.name(), before.description(), price,
+                before.quantity(), before.category(), before.createdAt(), now);
+    }
+}
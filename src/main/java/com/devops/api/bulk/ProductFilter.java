@@ -0,0 +1,21 @@
+package com.devops.api.bulk;
+
+import com.devops.api.stock.StockStatus;
+import jakarta.validation.constraints.DecimalMin;
+
+import java.math.BigDecimal;
+
+/**
+ * Predicate of a bulk operation; every non-null field must match. At least one
+ * field is required so that a missing body cannot select the whole catalog.
+ */
+public record ProductFilter(
+        String category,
+        @DecimalMin(value = "0", message = "minPrice cannot be negative") BigDecimal minPrice,
+        @DecimalMin(value = "0", message = "maxPrice cannot be negative") BigDecimal maxPrice,
+        StockStatus stockStatus) {
+
+    public boolean isEmpty() {
+        return category == null && minPrice == null && maxPrice == null && stockStatus == null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.devops.api.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code Age} and {@code X-Cache-Status} headers to responses whose data
+ * came from a {@link StaleWhileRevalidateCache}. The service records the
+ * result in a request attribute, so nothing leaks between requests and calls
+ * made outside a web request are unaffected.
+ */
+@ControllerAdvice
+public class CacheStatusHeaders implements ResponseBodyAdvice<Object> {
+
+    static final String ATTRIBUTE = CacheStatusHeaders.class.getName() + ".result";
+    public static final String STATUS_HEADER = "X-Cache-Status";
+
+    static void record(CachedResult<?> result) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, result, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof CachedResult<?> result) {
+            response.getHeaders().set("Age", Long.toString(result.age().toSeconds()));
+            response.getHeaders().set(STATUS_HEADER, result.status().name());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,9 @@
+package com.devops.api.cache;
+
+import java.time.Duration;
+
+/** A value together with how it was served and how old it is. */
+public record CachedResult<V>(V value, CacheStatus status, Duration age) {
+
+    public enum CacheStatus { MISS, HIT, STALE }
+}
@@ -0,0 +1,30 @@
+package com.devops.api.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.list-cache")
+public class ListCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Results younger than this are served as fresh. */
+    private Duration softTtl = Duration.ofSeconds(5);
+
+    /** Results older than this are never served; the caller waits for the database. */
+    private Duration hardTtl = Duration.ofMinutes(2);
+
+    /** Background refresh threads shared by all list keys. */
+    private int refreshThreads = 2;
+
+    /** Refreshes waiting for a thread; further refreshes are skipped until one finishes. */
+    private int refreshQueueCapacity = 32;
+
+    /** Upper bound on cached lists (one per category plus the stock lists). */
+    private int maxEntries = 1_000;
+}
@@ -0,0 +1,122 @@
+package com.devops.api.cache;
+
+import com.devops.api.event.ChangeType;
+import com.devops.api.event.ProductChangeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Negative cache of product ids the database recently reported as missing, so
+ * repeated lookups of deleted or never-existing ids skip the query.
+ *
+ * The table is direct-mapped: each id hashes to one slot and a colliding id
+ * simply replaces it, which keeps memory fixed and lookups lock-free. Losing
+ * an entry only costs a query.
+ *
+ * A lookup that started before a create must not cache the id that create
+ * assigned, so {@link #recordMissing} takes the {@link #epoch()} read before
+ * the query and is ignored if any invalidation happened since.
+ */
+@Component
+public class MissingIdCache {
+
+    private record Entry(long id, long expiresAt) {
+    }
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final AtomicLong epoch = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder recorded = new LongAdder();
+
+    @Autowired
+    public MissingIdCache(MissingIdProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    MissingIdCache(MissingIdProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.enabled = properties.isEnabled();
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.clock = clock;
+        int capacity = Integer.highestOneBit(Math.max(1, properties.getMaxEntries() - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+
+        FunctionCounter.builder("products.missing-ids.hits", hits, LongAdder::sum)
+                .description("Product lookups answered as not found without a query")
+                .register(meterRegistry);
+        FunctionCounter.builder("products.missing-ids.recorded", recorded, LongAdder::sum)
+                .description("Ids added to the negative cache after a query found nothing")
+                .register(meterRegistry);
+    }
+
+    public boolean isMissing(long id) {
+        if (!enabled) {
+            return false;
+        }
+        Entry entry = slots.get(slot(id));
+        if (entry == null || entry.id() != id || clock.getAsLong() - entry.expiresAt() >= 0) {
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /** Read before querying and pass to {@link #recordMissing}. */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    public void recordMissing(long id, long observedEpoch) {
+        if (!enabled || epoch.get() != observedEpoch) {
+            return;
+        }
+        slots.set(slot(id), new Entry(id, clock.getAsLong() + ttlNanos));
+        recorded.increment();
+        // An invalidation may have slipped in between the check and the write
+        if (epoch.get() != observedEpoch) {
+            invalidate(id);
+        }
+    }
+
+    public void invalidate(long id) {
+        epoch.incrementAndGet();
+        int slot = slot(id);
+        Entry entry = slots.get(slot);
+        if (entry != null && entry.id() == id) {
+            slots.compareAndSet(slot, entry, null);
+        }
+    }
+
+    /**
+     * Creates are also invalidated here so ids assigned outside
+     * {@code ProductServiceImpl.createProduct}, such as by imports, are covered,
+     * and so a lookup that raced the uncommitted insert can't leave an entry behind.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChange(ProductChangeEvent event) {
+        if (event.type() == ChangeType.CREATED && event.productId() != null) {
+            invalidate(event.productId());
+        }
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private int slot(long id) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
@@ -0,0 +1,24 @@
+package com.devops.api.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.missing-ids")
+public class MissingIdProperties {
+
+    private boolean enabled = true;
+
+    /** Slots in the table, rounded up to a power of two; colliding ids overwrite each other. */
+    private int maxEntries = 65_536;
+
+    /**
+     * How long an id stays known-missing. Creates on this instance invalidate
+     * immediately; the TTL bounds staleness for rows written elsewhere.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
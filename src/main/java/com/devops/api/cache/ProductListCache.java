@@ -0,0 +1,134 @@
+package com.devops.api.cache;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.model.Product;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate cache for the category and stock list reads of
+ * {@code ProductServiceImpl}. Entries touched by a committed write are evicted,
+ * so the writer's next read goes to the database.
+ */
+@Component
+public class ProductListCache {
+
+    private static final String IN_STOCK = "in-stock";
+    private static final String OUT_OF_STOCK = "out-of-stock";
+    private static final String CATEGORY_PREFIX = "category:";
+
+    private final boolean enabled;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final StaleWhileRevalidateCache<String, List<Product>> cache;
+
+    public ProductListCache(ListCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        AtomicInteger threads = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(
+                properties.getRefreshThreads(), properties.getRefreshThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getRefreshQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "list-cache-refresh-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+        this.cache = new StaleWhileRevalidateCache<>(properties.getSoftTtl(), properties.getHardTtl(),
+                properties.getMaxEntries(), refreshExecutor, System::nanoTime);
+
+        Gauge.builder("products.list-cache.size", cache, StaleWhileRevalidateCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("products.list-cache.stale-served", cache, StaleWhileRevalidateCache::staleServed)
+                .description("List responses served past the soft TTL")
+                .register(meterRegistry);
+        FunctionCounter.builder("products.list-cache.refresh-failures", cache, StaleWhileRevalidateCache::refreshFailures)
+                .description("Background refreshes that failed and left stale data in place")
+                .register(meterRegistry);
+    }
+
+    public List<Product> byCategory(String category, Supplier<List<Product>> loader) {
+        return get(CATEGORY_PREFIX + category, loader);
+    }
+
+    public List<Product> inStock(Supplier<List<Product>> loader) {
+        return get(IN_STOCK, loader);
+    }
+
+    public List<Product> outOfStock(Supplier<List<Product>> loader) {
+        return get(OUT_OF_STOCK, loader);
+    }
+
+    private List<Product> get(String key, Supplier<List<Product>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CachedResult<List<Product>> result = cache.get(key, loader);
+        CacheStatusHeaders.record(result);
+        return result.value();
+    }
+
+    /**
+     * Seeds the lists from a catalog snapshot so the first reads after a restart
+     * don't all go to the database. Seeded lists are revalidated on first read.
+     */
+    public void prime(Collection<ProductSnapshot> products) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, List<Product>> byCategory = new HashMap<>();
+        List<Product> inStock = new ArrayList<>();
+        List<Product> outOfStock = new ArrayList<>();
+        for (ProductSnapshot snapshot : products) {
+            Product product = snapshot.toProduct();
+            byCategory.computeIfAbsent(CATEGORY_PREFIX + snapshot.category(), key -> new ArrayList<>()).add(product);
+            (snapshot.quantity() > 0 ? inStock : outOfStock).add(product);
+        }
+        inStock.sort(Comparator.comparing(Product::getQuantity).reversed());
+        byCategory.forEach(cache::prime);
+        cache.prime(IN_STOCK, inStock);
+        cache.prime(OUT_OF_STOCK, outOfStock);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChange(ProductChangeEvent event) {
+        evictCategory(event.before());
+        evictCategory(event.after());
+        cache.invalidate(IN_STOCK);
+        cache.invalidate(OUT_OF_STOCK);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void evictCategory(ProductSnapshot snapshot) {
+        if (snapshot != null) {
+            cache.invalidate(CATEGORY_PREFIX + snapshot.category());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,160 @@
+package com.devops.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cache that keeps answering from the last good value while the source is slow or failing.
+ *
+ * <ul>
+ *   <li>younger than the soft TTL: served as is</li>
+ *   <li>between soft and hard TTL: served immediately, and one background
+ *       refresh per key is submitted to the bounded executor</li>
+ *   <li>older than the hard TTL, or absent: loaded on the calling thread</li>
+ * </ul>
+ * A failed background refresh leaves the old value in place, so callers keep
+ * getting it until the hard TTL even while the database is down.
+ *
+ * A load that overlaps an invalidation may have read data from before the
+ * write that caused it, so its value is returned to the caller but not cached.
+ */
+@Slf4j
+public class StaleWhileRevalidateCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long softTtlNanos;
+    private final long hardTtlNanos;
+    private final int maxEntries;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+    /** Bumped by every invalidation; a load only installs its value if this did not move meanwhile. */
+    private final AtomicLong generation = new AtomicLong();
+
+    public StaleWhileRevalidateCache(Duration softTtl, Duration hardTtl, int maxEntries,
+                                     Executor refreshExecutor, LongSupplier clock) {
+        if (hardTtl.compareTo(softTtl) < 0) {
+            throw new IllegalArgumentException("hardTtl must not be shorter than softTtl");
+        }
+        this.softTtlNanos = softTtl.toNanos();
+        this.hardTtlNanos = hardTtl.toNanos();
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    public CachedResult<V> get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        long now = clock.getAsLong();
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age < softTtlNanos) {
+                return new CachedResult<>(entry.value, CachedResult.CacheStatus.HIT, Duration.ofNanos(age));
+            }
+            if (age < hardTtlNanos) {
+                scheduleRefresh(key, entry, loader);
+                staleServed.incrementAndGet();
+                return new CachedResult<>(entry.value, CachedResult.CacheStatus.STALE, Duration.ofNanos(age));
+            }
+        }
+        long observed = generation.get();
+        V value = loader.get();
+        if (generation.get() == observed) {
+            Entry<V> loaded = new Entry<>(value, clock.getAsLong());
+            put(key, loaded);
+            // An invalidation may have slipped in between the check and the put
+            if (generation.get() != observed) {
+                entries.remove(key, loaded);
+            }
+        }
+        return new CachedResult<>(value, CachedResult.CacheStatus.MISS, Duration.ZERO);
+    }
+
+    /**
+     * Seeds a value that is already due for revalidation: the first read serves
+     * it and triggers a background refresh. Existing entries are left alone.
+     */
+    public void prime(K key, V value) {
+        if (!entries.containsKey(key)) {
+            put(key, new Entry<>(value, clock.getAsLong() - softTtlNanos));
+        }
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long refreshFailures() {
+        return refreshFailures.get();
+    }
+
+    public long staleServed() {
+        return staleServed.get();
+    }
+
+    private void scheduleRefresh(K key, Entry<V> entry, Supplier<V> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(key, entry, loader));
+        } catch (RejectedExecutionException ex) {
+            // Refresh queue is full; keep serving stale and try again on a later read
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void refresh(K key, Entry<V> entry, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            // Don't resurrect a key that was invalidated while loading
+            entries.replace(key, entry, new Entry<>(value, clock.getAsLong()));
+        } catch (RuntimeException ex) {
+            refreshFailures.incrementAndGet();
+            log.warn("Background refresh of {} failed, serving stale data: {}", key, ex.getMessage());
+        } finally {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void put(K key, Entry<V> entry) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            // Rare: more distinct categories than expected. Drop the oldest entry.
+            entries.entrySet().stream()
+                    .min((a, b) -> Long.compare(a.getValue().loadedAt, b.getValue().loadedAt))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+        entries.put(key, entry);
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
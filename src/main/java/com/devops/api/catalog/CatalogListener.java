@@ -0,0 +1,22 @@
+package com.devops.api.catalog;
+
+import com.devops.api.event.ProductSnapshot;
+
+import java.util.Collection;
+
+/**
+ * Receives every change applied to the {@link ProductCatalogIndex}, whether it
+ * came from a committed write or from startup reconciliation.
+ */
+public interface CatalogListener {
+
+    /**
+     * Called with the exact previous and new entry for one product. Either side
+     * is null for an insert or removal. Calls for different products may run
+     * concurrently; calls for one product are serialized.
+     */
+    void onChange(ProductSnapshot previous, ProductSnapshot current);
+
+    /** Called with the whole catalog when it is (re)loaded; no onChange runs concurrently. */
+    void onReload(Collection<ProductSnapshot> products);
+}
@@ -0,0 +1,124 @@
+package com.devops.api.catalog;
+
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.event.ProductSnapshotCodec;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout of the catalog snapshot (big-endian):
+ *
+ * <pre>
+ * int   magic           'PCAT'
+ * short version
+ * long  takenAt         epoch millis
+ * int   count
+ * count x (long id, ProductSnapshotCodec record)
+ * int   crc32c          checksum of everything before it
+ * </pre>
+ *
+ * A file with the wrong magic, an unknown version or a checksum mismatch is
+ * reported as absent; the caller falls back to the database.
+ */
+final class CatalogSnapshotFile {
+
+    static final int MAGIC = 0x50434154;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 4 + 2 + 8 + 4;
+    static final int TRAILER_SIZE = 4;
+
+    record Contents(Instant takenAt, List<ProductSnapshot> products) {
+    }
+
+    private CatalogSnapshotFile() {
+    }
+
+    static void write(Path path, Instant takenAt, Collection<ProductSnapshot> products) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = parent.resolve(path.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            buffer.putInt(MAGIC).putShort(VERSION).putLong(takenAt.toEpochMilli()).putInt(products.size());
+            for (ProductSnapshot product : products) {
+                if (buffer.remaining() < 8 + ProductSnapshotCodec.MAX_ENCODED_SIZE) {
+                    flush(buffer, channel, crc);
+                }
+                buffer.putLong(product.id());
+                ProductSnapshotCodec.write(product, buffer);
+            }
+            flush(buffer, channel, crc);
+            buffer.putInt((int) crc.getValue()).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Optional<Contents> read(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bodyEnd = (int) size - TRAILER_SIZE;
+            if (mapped.getInt(0) != MAGIC || mapped.getShort(4) != VERSION) {
+                return Optional.empty();
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(mapped.slice(0, bodyEnd));
+            if ((int) crc.getValue() != mapped.getInt(bodyEnd)) {
+                return Optional.empty();
+            }
+            return Optional.of(decode(mapped, bodyEnd));
+        }
+    }
+
+    private static Contents decode(ByteBuffer mapped, int bodyEnd) {
+        Instant takenAt = Instant.ofEpochMilli(mapped.getLong(6));
+        int count = mapped.getInt(14);
+        ByteBuffer in = mapped.slice(HEADER_SIZE, bodyEnd - HEADER_SIZE);
+        List<ProductSnapshot> products = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                products.add(ProductSnapshotCodec.read(in.getLong(), in));
+            }
+        } catch (BufferUnderflowException ex) {
+            // Checksum matched but the count disagrees with the body: written by a broken writer
+            throw new IllegalStateException("Snapshot body is shorter than its record count", ex);
+        }
+        return new Contents(takenAt, products);
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
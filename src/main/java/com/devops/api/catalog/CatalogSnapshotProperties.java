@@ -0,0 +1,28 @@
+package com.devops.api.catalog;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.catalog-snapshot")
+public class CatalogSnapshotProperties {
+
+    /** Read the catalog snapshot on startup and write it periodically and on shutdown. */
+    private boolean enabled = true;
+
+    /** Snapshot file; written to a sibling temp file and moved into place. */
+    private String path = "data/catalog.snapshot";
+
+    /** How often the catalog is written when it has changed since the last write. */
+    private Duration interval = Duration.ofMinutes(5);
+
+    /**
+     * Rows updated up to this long before the snapshot was taken are re-read
+     * during reconciliation, covering transactions still in flight at that time.
+     */
+    private Duration reconcileOverlap = Duration.ofSeconds(30);
+}
@@ -0,0 +1,170 @@
+package com.devops.api.catalog;
+
+import com.devops.api.cache.ProductListCache;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the catalog index and list cache before the application reports ready.
+ *
+ * Runners complete before the readiness state flips to ACCEPTING_TRAFFIC, so
+ * a memory-mapped snapshot lets a restarted instance take traffic without a
+ * burst of list queries. Rows changed since the snapshot are then reconciled
+ * in the background by {@code updatedAt}. Without a usable snapshot the
+ * catalog is loaded from the database before ready instead.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class CatalogWarmStart implements ApplicationRunner {
+
+    private final CatalogSnapshotProperties properties;
+    private final ProductCatalogIndex index;
+    private final ProductListCache listCache;
+    private final ProductRepository productRepository;
+    private final ScheduledExecutorService scheduler;
+    private final Timer writeTimer;
+    private final Counter reconciled;
+    private volatile long writtenVersion = -1;
+
+    public CatalogWarmStart(CatalogSnapshotProperties properties, ProductCatalogIndex index,
+                            ProductListCache listCache, ProductRepository productRepository,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.index = index;
+        this.listCache = listCache;
+        this.productRepository = productRepository;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writeTimer = Timer.builder("products.catalog-snapshot.write")
+                .description("Time to write the catalog snapshot file")
+                .register(meterRegistry);
+        this.reconciled = Counter.builder("products.catalog.reconciled")
+                .description("Index entries corrected or removed after comparing with the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<CatalogSnapshotFile.Contents> snapshot = properties.isEnabled() ? readSnapshot() : Optional.empty();
+        if (snapshot.isPresent()) {
+            CatalogSnapshotFile.Contents contents = snapshot.get();
+            index.load(contents.products());
+            index.markLoaded();
+            listCache.prime(contents.products());
+            log.info("Catalog warm-started from snapshot: {} products taken at {}",
+                    contents.products().size(), contents.takenAt());
+            LocalDateTime since = LocalDateTime.ofInstant(
+                    contents.takenAt().minus(properties.getReconcileOverlap()), ZoneId.systemDefault());
+            scheduler.execute(() -> reconcile(since));
+        } else {
+            reconcile(null);
+        }
+
+        if (properties.isEnabled()) {
+            long interval = properties.getInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::writeIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Loads rows updated after {@code since}, or the whole catalog when it is null. */
+    void reconcile(LocalDateTime since) {
+        long start = System.nanoTime();
+        index.beginReconcile();
+        try {
+            List<Product> rows = since != null
+                    ? productRepository.findByUpdatedAtAfter(since)
+                    : productRepository.findAll();
+            // Read ids after the rows: a row deleted in between is dropped, never resurrected
+            Set<Long> ids = new HashSet<>(since != null
+                    ? productRepository.findAllIds()
+                    : rows.stream().map(Product::getId).toList());
+
+            int changed = 0;
+            for (Product row : rows) {
+                if (index.reconcile(ProductSnapshot.of(row))) {
+                    changed++;
+                }
+            }
+            int removed = index.removeMissing(ids);
+            index.markLoaded();
+            reconciled.increment(changed + removed);
+            log.info("Catalog reconciled in {} ms: {} products, {} updated, {} removed",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), index.size(), changed, removed);
+        } catch (RuntimeException ex) {
+            log.warn("Catalog reconciliation failed, index may be behind the database: {}", ex.getMessage());
+        } finally {
+            index.endReconcile();
+        }
+    }
+
+    /** Writes the snapshot unless nothing changed since the last write. */
+    void writeIfChanged() {
+        long version = index.version();
+        if (!index.isLoaded() || version == writtenVersion) {
+            return;
+        }
+        try {
+            Instant takenAt = Instant.now();
+            List<ProductSnapshot> products = index.snapshot();
+            writeTimer.recordCallable(() -> {
+                CatalogSnapshotFile.write(Path.of(properties.getPath()), takenAt, products);
+                return null;
+            });
+            writtenVersion = version;
+            log.debug("Catalog snapshot written: {} products", products.size());
+        } catch (Exception ex) {
+            log.warn("Could not write catalog snapshot to {}: {}", properties.getPath(), ex.getMessage());
+        }
+    }
+
+    private Optional<CatalogSnapshotFile.Contents> readSnapshot() {
+        Path path = Path.of(properties.getPath());
+        try {
+            Optional<CatalogSnapshotFile.Contents> contents = CatalogSnapshotFile.read(path);
+            if (contents.isEmpty()) {
+                log.info("No usable catalog snapshot at {}, loading from the database", path);
+            }
+            return contents;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable catalog snapshot {}: {}", path, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        if (properties.isEnabled()) {
+            writeIfChanged();
+        }
+    }
+}
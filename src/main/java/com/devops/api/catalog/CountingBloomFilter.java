@@ -0,0 +1,100 @@
+package com.devops.api.catalog;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bloom filter with 8-bit counters instead of bits, so entries can be removed.
+ *
+ * {@link #mightContain} never returns false for an added, not-yet-removed
+ * key; it returns true for an absent key with roughly the configured
+ * probability while fewer than {@code expectedInsertions} keys are held.
+ * Counters saturate at 255 and are then never decremented, which can only
+ * add false positives. Writes are synchronized; reads are not.
+ */
+public final class CountingBloomFilter {
+
+    private static final int SATURATED = 0xFF;
+
+    private final byte[] counters;
+    private final int hashFunctions;
+    private final int capacity;
+    private int size;
+
+    public CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(64, m))];
+        this.hashFunctions = Math.max(1, (int) Math.round((double) counters.length / n * Math.log(2)));
+        this.capacity = n;
+    }
+
+    public synchronized void add(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(h1, h2, i);
+            int count = counters[index] & SATURATED;
+            if (count < SATURATED) {
+                counters[index] = (byte) (count + 1);
+            }
+        }
+        size++;
+    }
+
+    /** Removes one previous {@link #add} of the key; removing a key never added corrupts the filter. */
+    public synchronized void remove(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(h1, h2, i);
+            int count = counters[index] & SATURATED;
+            if (count > 0 && count < SATURATED) {
+                counters[index] = (byte) (count - 1);
+            }
+        }
+        size--;
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counters[index(h1, h2, i)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int index(int h1, int h2, int i) {
+        // Kirsch-Mitzenmacher: k indexes from two hashes
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % counters.length;
+    }
+
+    /** FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 64-bit mixer. */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,20 @@
+package com.devops.api.catalog;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.name-filter")
+public class NameFilterProperties {
+
+    /** Skip the duplicate-name query when the filter says a name is definitely unused. */
+    private boolean enabled = true;
+
+    /** Names the filter is sized for; it is rebuilt at twice the catalog size once exceeded. */
+    private int expectedInsertions = 10_000;
+
+    /** Target false-positive rate at the expected number of names. */
+    private double falsePositiveRate = 0.01;
+}
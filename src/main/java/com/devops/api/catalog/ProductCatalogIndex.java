@@ -0,0 +1,176 @@
+package com.devops.api.catalog;
+
+import com.devops.api.event.ChangeType;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.event.ProductSnapshotCodec;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of the whole catalog, kept current by committed change events.
+ *
+ * Filled at startup from the catalog snapshot (or the database) and then
+ * reconciled. While a reconciliation runs, ids touched by live events are
+ * remembered so the reconciler never overwrites them with rows it read earlier.
+ *
+ * Registered {@link CatalogListener}s see every entry change with its exact
+ * previous value. Single-product changes share a read lock; reloads take the
+ * write lock so listeners never mix a full rebuild with a delta.
+ */
+@Component
+public class ProductCatalogIndex {
+
+    private final Map<Long, ProductSnapshot> products = new ConcurrentHashMap<>();
+    private final List<CatalogListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Set<Long> touchedDuringReconcile;
+    private volatile boolean loaded;
+
+    public ProductCatalogIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("products.catalog.size", products, Map::size)
+                .description("Products held by the in-memory catalog index")
+                .register(meterRegistry);
+    }
+
+    /** Adds a listener and immediately hands it the current catalog. */
+    public void addListener(CatalogListener listener) {
+        lock.writeLock().lock();
+        try {
+            listeners.add(listener);
+            listener.onReload(products.values());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Hands the current catalog to one listener again, e.g. to rebuild derived state on demand. */
+    public void replayTo(CatalogListener listener) {
+        lock.writeLock().lock();
+        try {
+            listener.onReload(products.values());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChange(ProductChangeEvent event) {
+        Set<Long> touched = touchedDuringReconcile;
+        if (touched != null) {
+            touched.add(event.productId());
+        }
+        apply(event.productId(), event.type() == ChangeType.DELETED ? null : event.after());
+    }
+
+    /** Replaces the whole index; used for the initial load. */
+    void load(Collection<ProductSnapshot> snapshot) {
+        lock.writeLock().lock();
+        try {
+            products.clear();
+            snapshot.forEach(product -> products.put(product.id(), product));
+            version.incrementAndGet();
+            listeners.forEach(listener -> listener.onReload(products.values()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void beginReconcile() {
+        touchedDuringReconcile = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Applies a row read from the database unless a live event got there first
+     * or the entry already matches it. Entries loaded from the snapshot file
+     * only keep millisecond timestamps, so both sides are compared at that
+     * precision.
+     */
+    boolean reconcile(ProductSnapshot fromDatabase) {
+        ProductSnapshot current = products.get(fromDatabase.id());
+        if (touchedDuringReconcile.contains(fromDatabase.id())
+                || (current != null && ProductSnapshotCodec.atStoredPrecision(fromDatabase)
+                        .equals(ProductSnapshotCodec.atStoredPrecision(current)))) {
+            return false;
+        }
+        apply(fromDatabase.id(), fromDatabase);
+        return true;
+    }
+
+    /** Drops entries whose ids are no longer in the database. */
+    int removeMissing(Set<Long> existingIds) {
+        int removed = 0;
+        for (Long id : products.keySet()) {
+            if (!existingIds.contains(id) && !touchedDuringReconcile.contains(id) && apply(id, null)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    void endReconcile() {
+        touchedDuringReconcile = null;
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public ProductSnapshot get(Long id) {
+        return products.get(id);
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    /** Point-in-time copy of all entries, in no particular order. */
+    public List<ProductSnapshot> snapshot() {
+        return new ArrayList<>(products.values());
+    }
+
+    /** Incremented on every change; lets writers skip unchanged catalogs. */
+    public long version() {
+        return version.get();
+    }
+
+    /** Sets or removes (current == null) one entry; returns false if there was nothing to remove. */
+    private boolean apply(Long id, ProductSnapshot current) {
+        lock.readLock().lock();
+        try {
+            boolean[] changed = {false};
+            products.compute(id, (key, previous) -> {
+                if (previous != null || current != null) {
+                    changed[0] = true;
+                    listeners.forEach(listener -> listener.onChange(previous, current));
+                }
+                return current;
+            });
+            if (changed[0]) {
+                version.incrementAndGet();
+            }
+            return changed[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
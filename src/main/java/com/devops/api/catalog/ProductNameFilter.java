@@ -0,0 +1,108 @@
+package com.devops.api.catalog;
+
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Counting Bloom filter over lower-cased product names, kept in step with the
+ * {@link ProductCatalogIndex}.
+ *
+ * A negative answer means no committed product has the name, so the
+ * duplicate-name query can be skipped. The filter only sees a write after it
+ * commits, so two concurrent writers of one name can both get past it; the
+ * unique index on {@code LOWER(name)} rejects the second, and correctness
+ * never depends on the filter. Until the index is loaded every name is
+ * reported as possibly present.
+ */
+@Component
+@Slf4j
+public class ProductNameFilter implements CatalogListener {
+
+    private final NameFilterProperties properties;
+    private final ProductCatalogIndex index;
+    private final AtomicBoolean resizing = new AtomicBoolean();
+    private final Counter checks;
+    private final Counter queriesSaved;
+    private volatile CountingBloomFilter filter;
+
+    public ProductNameFilter(NameFilterProperties properties, ProductCatalogIndex index, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.index = index;
+        this.filter = new CountingBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        index.addListener(this);
+
+        this.checks = Counter.builder("products.name-filter.checks")
+                .description("Duplicate-name checks answered by the name filter")
+                .register(meterRegistry);
+        this.queriesSaved = Counter.builder("products.name-filter.queries-saved")
+                .description("Duplicate-name queries skipped because the name was definitely unused")
+                .register(meterRegistry);
+        Gauge.builder("products.name-filter.size", this, nameFilter -> nameFilter.filter.size())
+                .description("Names held by the name filter")
+                .register(meterRegistry);
+    }
+
+    /** False only if no committed product has this name, ignoring case. */
+    public boolean mightContain(String name) {
+        if (!properties.isEnabled() || !index.isLoaded()) {
+            return true;
+        }
+        checks.increment();
+        if (filter.mightContain(normalize(name))) {
+            return true;
+        }
+        queriesSaved.increment();
+        return false;
+    }
+
+    @Override
+    public void onChange(ProductSnapshot previous, ProductSnapshot current) {
+        String before = previous != null ? normalize(previous.name()) : null;
+        String after = current != null ? normalize(current.name()) : null;
+        if (before != null && before.equals(after)) {
+            return;
+        }
+        CountingBloomFilter target = filter;
+        if (before != null) {
+            target.remove(before);
+        }
+        if (after != null) {
+            target.add(after);
+            if (target.size() > target.capacity()) {
+                resize();
+            }
+        }
+    }
+
+    @Override
+    public void onReload(Collection<ProductSnapshot> products) {
+        CountingBloomFilter rebuilt = new CountingBloomFilter(
+                Math.max(properties.getExpectedInsertions(), products.size() * 2), properties.getFalsePositiveRate());
+        for (ProductSnapshot product : products) {
+            rebuilt.add(normalize(product.name()));
+        }
+        filter = rebuilt;
+    }
+
+    private void resize() {
+        // onChange runs under the index read lock; the replay needs the write lock
+        if (resizing.compareAndSet(false, true)) {
+            log.info("Name filter holds more than {} names; rebuilding", filter.capacity());
+            CompletableFuture.runAsync(() -> index.replayTo(this))
+                    .whenComplete((ignored, ex) -> resizing.set(false));
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,177 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ProductChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only product change log stored as a series of memory-mapped segments.
+ *
+ * Every record gets a dense, monotonically increasing offset. Appends are
+ * serialised; {@link #replay} may run concurrently from any number of threads
+ * and reads records in place from the mapping.
+ */
+@Slf4j
+public class ChangeLog implements Closeable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Duration retention;
+    private final ConcurrentSkipListMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+    private final ByteBuffer encodeBuffer = ByteBuffer.allocate(ChangeRecordCodec.MAX_RECORD_SIZE);
+
+    private LogSegment active;
+
+    public ChangeLog(Path directory, int segmentSize, int maxSegments, Duration retention) {
+        if (segmentSize < ChangeRecordCodec.MAX_RECORD_SIZE * 2) {
+            throw new IllegalArgumentException("segmentSize must be at least " + ChangeRecordCodec.MAX_RECORD_SIZE * 2);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.retention = retention;
+        try {
+            Files.createDirectories(directory);
+            openSegments();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot open change log in " + directory, ex);
+        }
+    }
+
+    private void openSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(LogSegment.SUFFIX)).toList()) {
+                LogSegment segment = LogSegment.open(file, segmentSize);
+                segments.put(segment.baseOffset(), segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            active = LogSegment.create(directory, 0, segmentSize);
+            segments.put(0L, active);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        log.info("Change log opened at {}: {} segment(s), next offset {}", directory, segments.size(), active.nextOffset());
+    }
+
+    /** Appends the event and returns its offset. */
+    public synchronized long append(ProductChangeEvent event) {
+        long offset = active.nextOffset();
+        encodeBuffer.clear();
+        ChangeRecordCodec.encode(offset, event, encodeBuffer);
+        encodeBuffer.flip();
+        long timestamp = event.occurredAt().toEpochMilli();
+        if (!active.append(encodeBuffer, offset, timestamp)) {
+            roll(offset);
+            active.append(encodeBuffer, offset, timestamp);
+        }
+        return offset;
+    }
+
+    /** Forces written pages of the active segment to disk. */
+    public synchronized void flush() {
+        active.flush();
+    }
+
+    /**
+     * Calls {@code handler} for up to {@code maxRecords} records starting at
+     * {@code fromOffset} and returns the offset to resume from. Offsets that were
+     * removed by retention are skipped to the oldest available record.
+     */
+    public long replay(long fromOffset, int maxRecords, Consumer<ChangeRecord> handler) {
+        long next = Math.max(fromOffset, firstOffset());
+        int remaining = maxRecords;
+        ChangeRecord record = new ChangeRecord();
+
+        Long startKey = segments.floorKey(next);
+        if (startKey == null) {
+            startKey = segments.firstKey();
+        }
+        for (LogSegment segment : segments.tailMap(startKey, true).values()) {
+            if (remaining <= 0) {
+                break;
+            }
+            ByteBuffer view = segment.readView();
+            int limit = segment.writePosition();
+            int position = segment.positionOf(next, view, limit);
+            int size;
+            while (remaining > 0 && (size = ChangeRecordCodec.validate(view, position, limit)) > 0) {
+                handler.accept(record.reset(view, position, size));
+                next = record.offset() + 1;
+                position += size;
+                remaining--;
+            }
+        }
+        return next;
+    }
+
+    public long firstOffset() {
+        return segments.firstKey();
+    }
+
+    public long nextOffset() {
+        return active.nextOffset();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    private void roll(long baseOffset) {
+        active.flush();
+        try {
+            LogSegment next = LogSegment.create(directory, baseOffset, segmentSize);
+            segments.put(baseOffset, next);
+            active = next;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create change log segment at offset " + baseOffset, ex);
+        }
+        log.debug("Change log rolled to segment {}", LogSegment.fileName(baseOffset));
+        enforceRetention();
+    }
+
+    /** Deletes sealed segments beyond the count limit or older than the retention period. */
+    public synchronized void enforceRetention() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        List<LogSegment> expired = new ArrayList<>();
+        int count = segments.size();
+        for (Map.Entry<Long, LogSegment> entry : segments.entrySet()) {
+            LogSegment segment = entry.getValue();
+            if (segment == active) {
+                break;
+            }
+            if (count > maxSegments || segment.lastTimestamp() < cutoff) {
+                expired.add(segment);
+                count--;
+            }
+        }
+        for (LogSegment segment : expired) {
+            segments.remove(segment.baseOffset());
+            try {
+                segment.delete();
+                log.info("Change log segment {} removed by retention", LogSegment.fileName(segment.baseOffset()));
+            } catch (IOException ex) {
+                log.warn("Could not delete change log segment {}: {}", segment.baseOffset(), ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        active.flush();
+    }
+}
@@ -0,0 +1,178 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.model.ProductChangeOutbox;
+import com.devops.api.repository.ProductChangeOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transactional outbox between the product writes and the change log.
+ *
+ * Every change is stored as a {@code product_change_outbox} row by the
+ * transaction that makes it, so a change commits if and only if its record
+ * does. A single writer thread appends pending rows to the log in id order
+ * and deletes them in one transaction per batch; rows left behind by a crash
+ * or a failed append are picked up again on the next pass or the next start.
+ *
+ * Delivery is at-least-once: if the process dies after appending a batch but
+ * before its delete commits, those records are appended again on restart.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.changelog", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ChangeLogAppender {
+
+    private final ChangeLog changeLog;
+    private final ChangeLogProperties properties;
+    private final ProductChangeOutboxRepository outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final Thread writer;
+    private final Counter appended;
+    private final Counter failures;
+    private final Counter corrupt;
+    private volatile boolean running = true;
+
+    public ChangeLogAppender(ChangeLog changeLog, ChangeLogProperties properties,
+                             ProductChangeOutboxRepository outbox, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.changeLog = changeLog;
+        this.properties = properties;
+        this.outbox = outbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.appended = Counter.builder("products.changelog.appended")
+                .description("Records appended to the change log")
+                .register(meterRegistry);
+        this.failures = Counter.builder("products.changelog.append-failures")
+                .description("Batches cut short by a failed append; the rest is retried")
+                .register(meterRegistry);
+        this.corrupt = Counter.builder("products.changelog.corrupt")
+                .description("Outbox rows that could not be decoded and were discarded")
+                .register(meterRegistry);
+        Gauge.builder("products.changelog.pending", outbox, ProductChangeOutboxRepository::count)
+                .description("Committed changes waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("products.changelog.segments", changeLog, ChangeLog::segmentCount)
+                .register(meterRegistry);
+
+        this.writer = new Thread(this::drainLoop, "changelog-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /** Starts the writer, which first drains whatever a previous run left in the outbox. */
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    /** Runs inside the publishing transaction, so the row commits or rolls back with the change. */
+    @EventListener
+    public void recordChange(ProductChangeEvent event) {
+        outbox.save(ProductChangeOutbox.builder().payload(ChangeRecordCodec.toBytes(event)).build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChange(ProductChangeEvent event) {
+        if (wakeUp.availablePermits() == 0) {
+            wakeUp.release();
+        }
+    }
+
+    private void drainLoop() {
+        long pollMillis = properties.getPollInterval().toMillis();
+        while (running) {
+            try {
+                int drained = drainOnce();
+                if (drained < 0) {
+                    TimeUnit.MILLISECONDS.sleep(properties.getRetryBackoff().toMillis());
+                } else if (drained < properties.getBatchSize()) {
+                    wakeUp.tryAcquire(pollMillis, TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException ex) {
+                running = false;
+            } catch (RuntimeException ex) {
+                // Outbox unreachable (database down); nothing was deleted, so nothing is lost
+                log.error("Could not read the change log outbox", ex);
+                sleepQuietly(properties.getRetryBackoff().toMillis());
+            }
+        }
+    }
+
+    /**
+     * Appends one batch of pending rows and deletes the ones that made it into
+     * the log. Returns the number of rows handled, or -1 if an append failed;
+     * the failed row and everything after it stay in the outbox.
+     */
+    int drainOnce() {
+        Integer handled = transactionTemplate.execute(status -> {
+            List<ProductChangeOutbox> pending = outbox.lockPending(PageRequest.of(0, properties.getBatchSize()));
+            List<ProductChangeOutbox> done = new ArrayList<>(pending.size());
+            int appendedRows = 0;
+            boolean failed = false;
+            for (ProductChangeOutbox row : pending) {
+                ProductChangeEvent event;
+                try {
+                    event = ChangeRecordCodec.fromBytes(row.getPayload());
+                } catch (RuntimeException ex) {
+                    log.error("Discarding undecodable outbox row {}: {}", row.getId(), ex.getMessage());
+                    corrupt.increment();
+                    done.add(row);
+                    continue;
+                }
+                try {
+                    changeLog.append(event);
+                } catch (RuntimeException ex) {
+                    log.error("Failed to append outbox row {} (product {}); {} row(s) will be retried",
+                            row.getId(), event.productId(), pending.size() - done.size(), ex);
+                    failures.increment();
+                    failed = true;
+                    break;
+                }
+                done.add(row);
+                appendedRows++;
+            }
+            if (properties.isFsyncOnAppend() && appendedRows > 0) {
+                changeLog.flush();
+            }
+            outbox.deleteAllInBatch(done);
+            appended.increment(appendedRows);
+            return failed ? -1 : done.size();
+        });
+        return handled != null ? handled : 0;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        wakeUp.release();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        changeLog.close();
+    }
+}
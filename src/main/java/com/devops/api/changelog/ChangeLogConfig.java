@@ -0,0 +1,21 @@
+package com.devops.api.changelog;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.changelog", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeLogConfig {
+
+    @Bean
+    public ChangeLog changeLog(ChangeLogProperties properties) {
+        return new ChangeLog(
+                Path.of(properties.getDirectory()),
+                (int) properties.getSegmentSize().toBytes(),
+                properties.getMaxSegments(),
+                properties.getRetention());
+    }
+}
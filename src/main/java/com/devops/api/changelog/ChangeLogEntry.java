@@ -0,0 +1,6 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ProductChangeEvent;
+
+public record ChangeLogEntry(long offset, ProductChangeEvent event) {
+}
@@ -0,0 +1,7 @@
+package com.devops.api.changelog;
+
+import java.util.List;
+
+/** A slice of the change log; pass {@code nextOffset} back as {@code from} to continue. */
+public record ChangeLogPage(List<ChangeLogEntry> entries, long firstOffset, long nextOffset) {
+}
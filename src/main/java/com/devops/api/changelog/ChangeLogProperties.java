@@ -0,0 +1,43 @@
+package com.devops.api.changelog;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.changelog")
+public class ChangeLogProperties {
+
+    private boolean enabled = true;
+
+    /** Directory holding the {@code <baseOffset>.log} segment files. */
+    private String directory = "data/changelog";
+
+    /** Pre-allocated, memory-mapped size of each segment. */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** Oldest sealed segments beyond this count are deleted. */
+    private int maxSegments = 16;
+
+    /** Sealed segments whose newest record is older than this are deleted. */
+    private Duration retention = Duration.ofDays(7);
+
+    /** Outbox rows appended and deleted per writer transaction. */
+    private int batchSize = 512;
+
+    /**
+     * How often the writer looks at the outbox when no commit has woken it,
+     * e.g. for rows committed by another instance or left by a crash.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /** Pause after a failed append or an unreachable outbox before trying again. */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /** Force mapped pages to disk after every appended batch instead of leaving it to the OS. */
+    private boolean fsyncOnAppend = false;
+}
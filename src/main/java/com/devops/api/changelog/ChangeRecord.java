@@ -0,0 +1,58 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ChangeType;
+import com.devops.api.event.ProductChangeEvent;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Zero-copy view of one record inside a mapped segment.
+ *
+ * The same instance is repositioned for every record handed to a replay
+ * callback, so it is only valid for the duration of that callback. Header
+ * fields are read straight from the mapping; {@link #toEvent()} is the only
+ * call that materialises objects.
+ */
+public final class ChangeRecord {
+
+    private ByteBuffer buffer;
+    private int position;
+    private int size;
+
+    ChangeRecord reset(ByteBuffer buffer, int position, int size) {
+        this.buffer = buffer;
+        this.position = position;
+        this.size = size;
+        return this;
+    }
+
+    public long offset() {
+        return ChangeRecordCodec.offset(buffer, position);
+    }
+
+    public long timestamp() {
+        return ChangeRecordCodec.timestamp(buffer, position);
+    }
+
+    public ChangeType type() {
+        return ChangeRecordCodec.type(buffer, position);
+    }
+
+    public long productId() {
+        return ChangeRecordCodec.productId(buffer, position);
+    }
+
+    /** Encoded size in bytes, header included. */
+    public int size() {
+        return size;
+    }
+
+    /** Read-only slice over the raw record bytes, for forwarding without decoding. */
+    public ByteBuffer rawBytes() {
+        return buffer.slice(position, size).asReadOnlyBuffer();
+    }
+
+    public ProductChangeEvent toEvent() {
+        return ChangeRecordCodec.decode(buffer, position);
+    }
+}
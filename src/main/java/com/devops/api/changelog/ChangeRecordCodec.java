@@ -0,0 +1,132 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ChangeType;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.event.ProductSnapshotCodec;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of one change log record (big-endian):
+ *
+ * <pre>
+ * int   bodyLength      length of everything after the CRC
+ * int   crc32c          checksum of the body
+ * ---- body ----
+ * long  offset
+ * long  timestamp       epoch millis
+ * byte  type            ChangeType ordinal
+ * long  productId
+ * byte  flags           bit 0: before present, bit 1: after present
+ * [snapshot before] [snapshot after]    see ProductSnapshotCodec
+ * </pre>
+ *
+ * A bodyLength of zero marks the end of written data in a pre-allocated segment.
+ */
+final class ChangeRecordCodec {
+
+    static final int HEADER_SIZE = 8;
+    static final int MAX_RECORD_SIZE = 8 * 1024;
+
+    private static final int FLAG_BEFORE = 1;
+    private static final int FLAG_AFTER = 2;
+    private static final ChangeType[] TYPES = ChangeType.values();
+
+    private ChangeRecordCodec() {
+    }
+
+    /** Writes header and body at the buffer's position and returns the total record size. */
+    static int encode(long offset, ProductChangeEvent event, ByteBuffer out) {
+        int start = out.position();
+        out.position(start + HEADER_SIZE);
+        out.putLong(offset);
+        out.putLong(event.occurredAt().toEpochMilli());
+        out.put((byte) event.type().ordinal());
+        out.putLong(event.productId());
+        int flags = (event.before() != null ? FLAG_BEFORE : 0) | (event.after() != null ? FLAG_AFTER : 0);
+        out.put((byte) flags);
+        if (event.before() != null) {
+            ProductSnapshotCodec.write(event.before(), out);
+        }
+        if (event.after() != null) {
+            ProductSnapshotCodec.write(event.after(), out);
+        }
+        int end = out.position();
+        int bodyLength = end - start - HEADER_SIZE;
+        out.putInt(start, bodyLength);
+        out.putInt(start + 4, crc(out, start + HEADER_SIZE, bodyLength));
+        return end - start;
+    }
+
+    /** The event as a standalone record with offset 0, for storing outside a segment. */
+    static byte[] toBytes(ProductChangeEvent event) {
+        ByteBuffer out = ByteBuffer.allocate(MAX_RECORD_SIZE);
+        int size = encode(0, event, out);
+        byte[] bytes = new byte[size];
+        out.get(0, bytes);
+        return bytes;
+    }
+
+    /** Inverse of {@link #toBytes}. */
+    static ProductChangeEvent fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (validate(buffer, 0, bytes.length) != bytes.length) {
+            throw new IllegalArgumentException("Corrupt change record of " + bytes.length + " bytes");
+        }
+        return decode(buffer, 0);
+    }
+
+    /**
+     * Returns the size of the valid record at {@code position}, or -1 if there is
+     * no record there (end marker, truncated write or checksum mismatch).
+     */
+    static int validate(ByteBuffer buffer, int position, int limit) {
+        if (position + HEADER_SIZE > limit) {
+            return -1;
+        }
+        int bodyLength = buffer.getInt(position);
+        if (bodyLength <= 0 || bodyLength > MAX_RECORD_SIZE || position + HEADER_SIZE + bodyLength > limit) {
+            return -1;
+        }
+        if (buffer.getInt(position + 4) != crc(buffer, position + HEADER_SIZE, bodyLength)) {
+            return -1;
+        }
+        return HEADER_SIZE + bodyLength;
+    }
+
+    static long offset(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + HEADER_SIZE);
+    }
+
+    static long timestamp(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + HEADER_SIZE + 8);
+    }
+
+    static ChangeType type(ByteBuffer buffer, int position) {
+        return TYPES[buffer.get(position + HEADER_SIZE + 16)];
+    }
+
+    static long productId(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + HEADER_SIZE + 17);
+    }
+
+    static ProductChangeEvent decode(ByteBuffer buffer, int position) {
+        int flags = buffer.get(position + HEADER_SIZE + 25);
+        ByteBuffer in = buffer.duplicate();
+        in.position(position + HEADER_SIZE + 26);
+        long productId = productId(buffer, position);
+        ProductSnapshot before = (flags & FLAG_BEFORE) != 0 ? ProductSnapshotCodec.read(productId, in) : null;
+        ProductSnapshot after = (flags & FLAG_AFTER) != 0 ? ProductSnapshotCodec.read(productId, in) : null;
+        return new ProductChangeEvent(type(buffer, position), productId, before, after,
+                Instant.ofEpochMilli(timestamp(buffer, position)));
+    }
+
+    private static int crc(ByteBuffer buffer, int position, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,168 @@
+package com.devops.api.changelog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One pre-allocated, memory-mapped log file named after the offset of its
+ * first record. Only the log's writer appends; readers work on duplicates of
+ * the mapping bounded by the volatile {@link #writePosition}, which is
+ * published after the record bytes are in place.
+ */
+@Slf4j
+final class LogSegment {
+
+    static final String SUFFIX = ".log";
+    private static final int INDEX_INTERVAL = 256;
+
+    private final long baseOffset;
+    private final Path path;
+    private final MappedByteBuffer mapping;
+    private final TreeMap<Long, Integer> sparseIndex = new TreeMap<>();
+
+    private volatile int writePosition;
+    private volatile long nextOffset;
+    private volatile long lastTimestamp;
+
+    private LogSegment(long baseOffset, Path path, MappedByteBuffer mapping) {
+        this.baseOffset = baseOffset;
+        this.path = path;
+        this.mapping = mapping;
+        this.nextOffset = baseOffset;
+        this.lastTimestamp = System.currentTimeMillis();
+    }
+
+    static LogSegment create(Path directory, long baseOffset, int size) throws IOException {
+        Path path = directory.resolve(fileName(baseOffset));
+        return new LogSegment(baseOffset, path, map(path, size));
+    }
+
+    /** Maps an existing file and rebuilds the write position by scanning valid records. */
+    static LogSegment open(Path path, int size) throws IOException {
+        long baseOffset = Long.parseLong(path.getFileName().toString().replace(SUFFIX, ""));
+        int mappedSize = (int) Math.max(size, Files.size(path));
+        LogSegment segment = new LogSegment(baseOffset, path, map(path, mappedSize));
+        segment.recover();
+        return segment;
+    }
+
+    static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, SUFFIX);
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private void recover() {
+        int position = 0;
+        int limit = mapping.capacity();
+        long offset = baseOffset;
+        int recordSize;
+        while ((recordSize = ChangeRecordCodec.validate(mapping, position, limit)) > 0) {
+            offset = ChangeRecordCodec.offset(mapping, position);
+            lastTimestamp = ChangeRecordCodec.timestamp(mapping, position);
+            if ((offset - baseOffset) % INDEX_INTERVAL == 0) {
+                sparseIndex.put(offset, position);
+            }
+            position += recordSize;
+            offset++;
+        }
+        // Wipe a torn tail so the next append is not mistaken for a continuation
+        if (position + 4 <= limit && mapping.getInt(position) != 0) {
+            log.warn("Truncating corrupt tail of change log segment {} at byte {}", path.getFileName(), position);
+            int end = Math.min(limit, position + ChangeRecordCodec.HEADER_SIZE + ChangeRecordCodec.MAX_RECORD_SIZE);
+            for (int i = position; i < end; i++) {
+                mapping.put(i, (byte) 0);
+            }
+        }
+        this.writePosition = position;
+        this.nextOffset = offset;
+    }
+
+    /** Copies an encoded record into the mapping; returns false when the segment is full. */
+    boolean append(ByteBuffer record, long offset, long timestamp) {
+        int size = record.remaining();
+        int position = writePosition;
+        // Keep room for the zero end marker
+        if (position + size + 4 > mapping.capacity()) {
+            return false;
+        }
+        mapping.put(position, record, record.position(), size);
+        if ((offset - baseOffset) % INDEX_INTERVAL == 0) {
+            synchronized (sparseIndex) {
+                sparseIndex.put(offset, position);
+            }
+        }
+        lastTimestamp = timestamp;
+        nextOffset = offset + 1;
+        writePosition = position + size;
+        return true;
+    }
+
+    /** Byte position of the record with the given offset, or the end of data if it is beyond. */
+    int positionOf(long offset, ByteBuffer view, int limit) {
+        int position = 0;
+        synchronized (sparseIndex) {
+            Map.Entry<Long, Integer> floor = sparseIndex.floorEntry(offset);
+            if (floor != null) {
+                position = floor.getValue();
+            }
+        }
+        int recordSize;
+        while ((recordSize = ChangeRecordCodec.validate(view, position, limit)) > 0
+                && ChangeRecordCodec.offset(view, position) < offset) {
+            position += recordSize;
+        }
+        return position;
+    }
+
+    /** Independent read view sharing the mapped memory. */
+    ByteBuffer readView() {
+        return mapping.duplicate();
+    }
+
+    void flush() {
+        mapping.force();
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long nextOffset() {
+        return nextOffset;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    boolean isEmpty() {
+        return writePosition == 0;
+    }
+
+    /**
+     * Deletes the file. The mapping stays valid for readers still holding a
+     * view; the OS releases the pages once it is garbage collected.
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,36 @@
+package com.devops.api.controller;
+
+import com.devops.api.dto.ApiResponse;
+import com.devops.api.stats.CategoryAggregates;
+import com.devops.api.stats.CategoryStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/products/stats/categories")
+@RequiredArgsConstructor
+public class CategoryStatsController {
+
+    private final CategoryAggregates categoryAggregates;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CategoryStats>>> getCategoryStats() {
+        List<CategoryStats> stats = categoryAggregates.snapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success("Stats for " + stats.size() + " categories", stats));
+    }
+
+    @PostMapping("/recompute")
+    public ResponseEntity<ApiResponse<List<CategoryStats>>> recompute() {
+        categoryAggregates.recompute();
+        List<CategoryStats> stats = categoryAggregates.snapshot();
+        return ResponseEntity.ok(
+                ApiResponse.success("Recomputed stats for " + stats.size() + " categories", stats));
+    }
+}
@@ -0,0 +1,41 @@
+package com.devops.api.controller;
+
+import com.devops.api.changelog.ChangeLog;
+import com.devops.api.changelog.ChangeLogEntry;
+import com.devops.api.changelog.ChangeLogPage;
+import com.devops.api.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/products/changes")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.changelog", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeLogController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ChangeLog changeLog;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<ChangeLogPage>> replay(
+            @RequestParam(defaultValue = "0") long from,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (from < 0 || limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("from must be >= 0 and limit between 1 and " + MAX_LIMIT);
+        }
+        List<ChangeLogEntry> entries = new ArrayList<>(limit);
+        long next = changeLog.replay(from, limit,
+                record -> entries.add(new ChangeLogEntry(record.offset(), record.toEvent())));
+        ChangeLogPage page = new ChangeLogPage(entries, changeLog.firstOffset(), next);
+        return ResponseEntity.ok(ApiResponse.success("Replayed " + entries.size() + " changes", page));
+    }
+}
@@ -0,0 +1,36 @@
+package com.devops.api.controller;
+
+import com.devops.api.analytics.InventoryAnalytics;
+import com.devops.api.analytics.InventoryReport;
+import com.devops.api.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/products/analytics")
+@RequiredArgsConstructor
+public class InventoryAnalyticsController {
+
+    private static final int MAX_TOP = 100;
+
+    private final InventoryAnalytics inventoryAnalytics;
+
+    /**
+     * Value distribution, price percentiles per category, stock histograms and
+     * the top products by inventory value, computed over the whole catalog.
+     */
+    @GetMapping("/inventory")
+    public ResponseEntity<ApiResponse<InventoryReport>> inventory(
+            @RequestParam(defaultValue = "10") int top) {
+        if (top < 0 || top > MAX_TOP) {
+            throw new IllegalArgumentException("top must be between 0 and " + MAX_TOP);
+        }
+        InventoryReport report = inventoryAnalytics.report(top);
+        return ResponseEntity.ok(
+                ApiResponse.success("Inventory report over " + report.products() + " products", report));
+    }
+}
@@ -0,0 +1,53 @@
+package com.devops.api.controller;
+
+import com.devops.api.bulk.BulkDeleteRequest;
+import com.devops.api.bulk.BulkRepriceRequest;
+import com.devops.api.bulk.BulkRestockRequest;
+import com.devops.api.bulk.BulkResult;
+import com.devops.api.bulk.ProductBulkService;
+import com.devops.api.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Filter-based bulk changes; {@code dryRun=true} only counts the matches. */
+@RestController
+@RequestMapping("/api/v1/products/bulk")
+@RequiredArgsConstructor
+public class ProductBulkController {
+
+    private final ProductBulkService bulkService;
+
+    @PostMapping("/reprice")
+    public ResponseEntity<ApiResponse<BulkResult>> reprice(
+            @Valid @RequestBody BulkRepriceRequest request,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return respond(bulkService.reprice(request, dryRun));
+    }
+
+    @PostMapping("/restock")
+    public ResponseEntity<ApiResponse<BulkResult>> restock(
+            @Valid @RequestBody BulkRestockRequest request,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return respond(bulkService.restock(request, dryRun));
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<ApiResponse<BulkResult>> delete(
+            @Valid @RequestBody BulkDeleteRequest request,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return respond(bulkService.delete(request, dryRun));
+    }
+
+    private static ResponseEntity<ApiResponse<BulkResult>> respond(BulkResult result) {
+        String message = result.dryRun()
+                ? "Bulk " + result.operation() + " would change " + result.matched() + " products"
+                : "Bulk " + result.operation() + " changed " + result.affected() + " products";
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+}
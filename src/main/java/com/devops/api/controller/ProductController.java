@@ -2,11 +2,14 @@ package com.devops.api.controller;
 
 import com.devops.api.dto.ApiResponse;
 import com.devops.api.dto.ProductDTO;
+import com.devops.api.dto.ProductPatchDTO;
+import com.devops.api.exception.PreconditionFailedException;
 import com.devops.api.model.Product;
 import com.devops.api.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,8 +47,8 @@ public class ProductController {
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Product>> getProductById(@PathVariable Long id) {
-        return ResponseEntity.ok(
-                ApiResponse.success("Product fetched", productService.getProductById(id)));
+        Product product = productService.getProductById(id);
+        return okWithVersion(product).body(ApiResponse.success("Product fetched", product));
     }
 
     @GetMapping("/category/{category}")
@@ -92,8 +95,17 @@ public class ProductController {
     public ResponseEntity<ApiResponse<Product>> updateProduct(
             @PathVariable Long id,
             @Valid @RequestBody ProductDTO productDTO) {
-        return ResponseEntity.ok(
-                ApiResponse.success("Product updated successfully", productService.updateProduct(id, productDTO)));
+        Product updated = productService.updateProduct(id, productDTO);
+        return okWithVersion(updated).body(ApiResponse.success("Product updated successfully", updated));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<Product>> patchProduct(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody ProductPatchDTO patch) {
+        Product patched = productService.patchProduct(id, patch, expectedVersion(ifMatch));
+        return okWithVersion(patched).body(ApiResponse.success("Product patched successfully", patched));
     }
 
     // ─── DELETE ───────────────────────────────────────────────────────────────
@@ -103,4 +115,31 @@ public class ProductController {
         productService.deleteProduct(id);
         return ResponseEntity.ok(ApiResponse.success("Product deleted successfully", null));
     }
+
+    // ─── ETag / If-Match ──────────────────────────────────────────────────────
+
+    private static ResponseEntity.BodyBuilder okWithVersion(Product product) {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        return product.getVersion() != null ? ok.eTag("\"" + product.getVersion() + "\"") : ok;
+    }
+
+    /** The version named by an If-Match header; null when absent or {@code *}. */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException ex) {
+            // Not an ETag this API issues, so it cannot match the current one
+            throw new PreconditionFailedException("If-Match does not name a product version: " + ifMatch);
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package com.devops.api.controller;
+
+import com.devops.api.dto.ApiResponse;
+import com.devops.api.importer.ImportJobStatus;
+import com.devops.api.importer.ProductImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/products/import")
+@RequiredArgsConstructor
+public class ProductImportController {
+
+    private final ProductImportService importService;
+
+    /**
+     * Starts a background import of a CSV file with the header
+     * {@code name,description,price,quantity,category}. Rows are matched to
+     * existing products by name (case-insensitive) and created or updated.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportJobStatus>> startImport(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        ImportJobStatus status = importService.submit(file);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/products/import/" + status.id()))
+                .body(ApiResponse.success("Import queued", status));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJobStatus>> getStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success("Import status", importService.getStatus(jobId)));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ImportJobStatus>>> getRecent() {
+        List<ImportJobStatus> jobs = importService.getRecent();
+        return ResponseEntity.ok(ApiResponse.success("Fetched " + jobs.size() + " import jobs", jobs));
+    }
+}
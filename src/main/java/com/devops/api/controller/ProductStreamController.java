@@ -0,0 +1,36 @@
+package com.devops.api.controller;
+
+import com.devops.api.event.ChangeType;
+import com.devops.api.stream.ChangeFilter;
+import com.devops.api.stream.OverflowPolicy;
+import com.devops.api.stream.ProductChangeBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductStreamController {
+
+    private final ProductChangeBroadcaster broadcaster;
+
+    /**
+     * Live feed of committed product changes as Server-Sent Events.
+     * Event names: created, updated, stock-changed, deleted.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(required = false) String category,
+            @RequestParam(name = "id", required = false) Set<Long> ids,
+            @RequestParam(name = "type", required = false) Set<ChangeType> types,
+            @RequestParam(required = false) OverflowPolicy overflow) {
+        return broadcaster.subscribe(new ChangeFilter(category, ids, types), overflow);
+    }
+}
@@ -0,0 +1,75 @@
+package com.devops.api.controller;
+
+import com.devops.api.alert.AlertRule;
+import com.devops.api.alert.AlertRuleRequest;
+import com.devops.api.alert.SseAlertSink;
+import com.devops.api.alert.StockAlertEngine;
+import com.devops.api.dto.ApiResponse;
+import com.devops.api.exception.ResourceNotFoundException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/alerts")
+@RequiredArgsConstructor
+public class StockAlertController {
+
+    private final StockAlertEngine engine;
+    private final SseAlertSink sseSink;
+
+    @GetMapping("/rules")
+    public ResponseEntity<ApiResponse<List<AlertRule>>> getRules() {
+        List<AlertRule> rules = engine.rules();
+        return ResponseEntity.ok(ApiResponse.success("Found " + rules.size() + " alert rules", rules));
+    }
+
+    @PutMapping("/rules/products/{productId}")
+    public ResponseEntity<ApiResponse<AlertRule>> putProductRule(
+            @PathVariable Long productId,
+            @Valid @RequestBody AlertRuleRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("Alert rule saved",
+                engine.putProductRule(productId, request.threshold())));
+    }
+
+    @PutMapping("/rules/categories/{category}")
+    public ResponseEntity<ApiResponse<AlertRule>> putCategoryRule(
+            @PathVariable String category,
+            @Valid @RequestBody AlertRuleRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("Alert rule saved",
+                engine.putCategoryRule(category, request.threshold())));
+    }
+
+    @DeleteMapping("/rules/products/{productId}")
+    public ResponseEntity<ApiResponse<Void>> deleteProductRule(@PathVariable Long productId) {
+        if (!engine.removeProductRule(productId)) {
+            throw new ResourceNotFoundException("No alert rule for product " + productId);
+        }
+        return ResponseEntity.ok(ApiResponse.success("Alert rule deleted", null));
+    }
+
+    @DeleteMapping("/rules/categories/{category}")
+    public ResponseEntity<ApiResponse<Void>> deleteCategoryRule(@PathVariable String category) {
+        if (!engine.removeCategoryRule(category)) {
+            throw new ResourceNotFoundException("No alert rule for category " + category);
+        }
+        return ResponseEntity.ok(ApiResponse.success("Alert rule deleted", null));
+    }
+
+    /** Live alerts as Server-Sent Events named {@code triggered} and {@code recovered}. */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return sseSink.subscribe();
+    }
+}
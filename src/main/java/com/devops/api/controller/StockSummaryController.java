@@ -0,0 +1,57 @@
+package com.devops.api.controller;
+
+import com.devops.api.dto.ApiResponse;
+import com.devops.api.stock.StockStatus;
+import com.devops.api.stock.StockSummary;
+import com.devops.api.stock.StockSummaryItem;
+import com.devops.api.stock.StockSummaryMaterializer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/products/stock-summary")
+@RequiredArgsConstructor
+public class StockSummaryController {
+
+    private final StockSummaryMaterializer materializer;
+
+    /** Product counts per stock status, overall and per category. */
+    @GetMapping
+    public ResponseEntity<ApiResponse<StockSummary>> getSummary() {
+        return ResponseEntity.ok(ApiResponse.success("Stock summary", materializer.current()));
+    }
+
+    /** Products in one status, e.g. {@code low-stock} or {@code LOW_STOCK}, ordered by quantity. */
+    @GetMapping("/{status}")
+    public ResponseEntity<ApiResponse<List<StockSummaryItem>>> getByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String category) {
+        StockStatus stockStatus = parse(status);
+        List<StockSummaryItem> items = materializer.current().items(stockStatus, category);
+        return ResponseEntity.ok(
+                ApiResponse.success("Found " + items.size() + " products " + stockStatus, items));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<StockSummary>> refresh() {
+        return ResponseEntity.ok(ApiResponse.success("Stock summary refreshed", materializer.refresh()));
+    }
+
+    private static StockStatus parse(String status) {
+        try {
+            return StockStatus.valueOf(status.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown stock status: " + status
+                    + " (expected one of " + List.of(StockStatus.values()) + ")");
+        }
+    }
+}
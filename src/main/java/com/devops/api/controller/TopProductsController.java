@@ -0,0 +1,66 @@
+package com.devops.api.controller;
+
+import com.devops.api.dto.ApiResponse;
+import com.devops.api.model.Product;
+import com.devops.api.ranking.RankField;
+import com.devops.api.ranking.TopProductsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/products/top")
+@RequiredArgsConstructor
+public class TopProductsController {
+
+    private static final int MAX_N = 100;
+
+    private final TopProductsService topProductsService;
+
+    /** The top {@code n} products of the whole catalog, e.g. {@code ?by=price&n=5} for the five cheapest. */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Product>>> getTop(
+            @RequestParam(defaultValue = "price") String by,
+            @RequestParam(defaultValue = "10") int n,
+            @RequestParam(required = false) String order) {
+        RankField field = RankField.from(by);
+        List<Product> products = topProductsService.top(field, direction(field, order), validate(n));
+        return ResponseEntity.ok(ApiResponse.success("Top " + products.size() + " products by " + by, products));
+    }
+
+    /** The top {@code n} products of every category in one call, keyed by category name. */
+    @GetMapping(params = "perCategory=true")
+    public ResponseEntity<ApiResponse<Map<String, List<Product>>>> getTopPerCategory(
+            @RequestParam(defaultValue = "price") String by,
+            @RequestParam(defaultValue = "10") int n,
+            @RequestParam(required = false) String order) {
+        RankField field = RankField.from(by);
+        Map<String, List<Product>> products =
+                topProductsService.topPerCategory(field, direction(field, order), validate(n));
+        return ResponseEntity.ok(ApiResponse.success(
+                "Top " + n + " products by " + by + " in " + products.size() + " categories", products));
+    }
+
+    private static int validate(int n) {
+        if (n < 1 || n > MAX_N) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_N);
+        }
+        return n;
+    }
+
+    /** Defaults to the field's natural "top": ascending price, descending quantity and createdAt. */
+    private static Sort.Direction direction(RankField field, String order) {
+        if (order == null) {
+            return field.defaultDirection();
+        }
+        return Sort.Direction.fromOptionalString(order)
+                .orElseThrow(() -> new IllegalArgumentException("order must be asc or desc"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.devops.api.datasource;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.pool.PoolProfiler;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Splits reads and writes across two Hikari pools when
+ * {@code app.datasource.replica.enabled=true}.
+ *
+ * The application-facing DataSource is a {@link LazyConnectionDataSourceProxy}
+ * over the primary pool. Connections are only fetched on the first statement,
+ * after Spring has marked the transaction read-only, at which point the proxy
+ * takes them from {@link ReplicaRoutingDataSource} instead. Flyway and all
+ * read-write transactions therefore stay on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagGuard replicaLagGuard(@Qualifier("replicaDataSource") DataSource replica,
+                                           ReplicaProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaLagGuard(replica, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") HikariDataSource replica,
+                                 ReplicaLagGuard guard, MeterRegistry meterRegistry, PoolProfiler poolProfiler) {
+        // The lag guard keeps using the bare replica pool; its probes are not application load
+        DataSource primaryPool = poolProfiler.instrument(primary);
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryPool);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryPool, poolProfiler.instrument(replica),
+                guard, meterRegistry));
+        // Avoid borrowing a connection at startup just to discover the defaults
+        proxy.setDefaultAutoCommit(primary.isAutoCommit());
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    public ReplicaWriteTracker replicaWriteTracker(ReplicaLagGuard guard) {
+        return new ReplicaWriteTracker(guard);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaLagGuard guard) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(guard));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /** Feeds committed product writes into the writing client's read-your-writes window. */
+    public static class ReplicaWriteTracker {
+
+        private final ReplicaLagGuard guard;
+
+        ReplicaWriteTracker(ReplicaLagGuard guard) {
+            this.guard = guard;
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+        public void onProductChange(ProductChangeEvent event) {
+            ReadYourWritesFilter.remember(guard.recordWrite(), guard.writeWindow());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.devops.api.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Carries a client's read-your-writes window from one request to the next.
+ *
+ * A committed write sets a short-lived cookie holding its time; requests that
+ * send it back have their reads kept on the primary by {@link ReplicaLagGuard}
+ * until the window has passed. Clients that have not written recently, or do
+ * not keep cookies, read from the replica as usual.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "last-write";
+
+    private final ReplicaLagGuard guard;
+
+    public ReadYourWritesFilter(ReplicaLagGuard guard) {
+        this.guard = guard;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Long writtenAt = lastWrite(request);
+        if (writtenAt != null) {
+            // A forged future time must not pin the client to the primary
+            guard.restoreLastWrite(Math.min(writtenAt, System.currentTimeMillis()));
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            guard.clearLastWrite();
+        }
+    }
+
+    /** Hands the write's time to the client of the current request, if there is one. */
+    static void remember(long writtenAtMillis, Duration window) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getResponse() != null && !attributes.getResponse().isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE, Long.toString(writtenAtMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+            attributes.getResponse().addCookie(cookie);
+        }
+    }
+
+    private static Long lastWrite(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
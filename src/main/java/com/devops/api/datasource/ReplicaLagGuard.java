@@ -0,0 +1,123 @@
+package com.devops.api.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a read-only transaction may use the replica.
+ *
+ * The replica is skipped while it is unreachable, while its measured lag is
+ * above {@code maxLag}, and for {@code max(lag, readYourWritesWindow)} after
+ * the caller's own last committed write, so a client reading right after a
+ * create or update sees its own change. The write time is kept per thread and
+ * carried across requests by {@link ReadYourWritesFilter}; other callers keep
+ * reading from the replica.
+ */
+@Slf4j
+public class ReplicaLagGuard implements AutoCloseable {
+
+    public enum Decision { REPLICA, RECENT_WRITE, LAGGING, UNHEALTHY }
+
+    private final DataSource replica;
+    private final ReplicaProperties properties;
+    private final ScheduledExecutorService probe;
+
+    private volatile long lagMillis;
+    private volatile boolean healthy = true;
+    private final ThreadLocal<Long> lastWriteMillis = new ThreadLocal<>();
+
+    public ReplicaLagGuard(DataSource replica, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.properties = properties;
+        this.probe = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getLagCheckInterval().toMillis();
+        probe.scheduleWithFixedDelay(this::measureLag, 0, interval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("products.datasource.replica.lag", this, guard -> guard.lagMillis)
+                .baseUnit("milliseconds")
+                .description("Last measured replica replay lag")
+                .register(meterRegistry);
+        Gauge.builder("products.datasource.replica.healthy", this, guard -> guard.healthy ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public Decision decide() {
+        if (!healthy) {
+            return Decision.UNHEALTHY;
+        }
+        long lag = lagMillis;
+        if (lag > properties.getMaxLag().toMillis()) {
+            return Decision.LAGGING;
+        }
+        Long lastWrite = lastWriteMillis.get();
+        long window = Math.max(lag, properties.getReadYourWritesWindow().toMillis());
+        if (lastWrite != null && System.currentTimeMillis() - lastWrite <= window) {
+            return Decision.RECENT_WRITE;
+        }
+        return Decision.REPLICA;
+    }
+
+    /** Records a committed write by the current thread and returns its time. */
+    public long recordWrite() {
+        long now = System.currentTimeMillis();
+        lastWriteMillis.set(now);
+        return now;
+    }
+
+    /** Adopts a write the same client made in an earlier request. */
+    public void restoreLastWrite(long writtenAtMillis) {
+        lastWriteMillis.set(writtenAtMillis);
+    }
+
+    public void clearLastWrite() {
+        lastWriteMillis.remove();
+    }
+
+    /** Longest time a write can keep its caller's reads on the primary; beyond maxLag they go there anyway. */
+    public Duration writeWindow() {
+        Duration window = properties.getReadYourWritesWindow();
+        return window.compareTo(properties.getMaxLag()) > 0 ? window : properties.getMaxLag();
+    }
+
+    /** Called when a replica connection could not be obtained; the next probe may restore it. */
+    public void markUnhealthy(SQLException cause) {
+        if (healthy) {
+            log.warn("Read replica unavailable, routing reads to primary: {}", cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    void measureLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+            lagMillis = rs.next() ? (long) rs.getDouble(1) : 0;
+            if (!healthy) {
+                log.info("Read replica reachable again (lag {} ms)", lagMillis);
+            }
+            healthy = true;
+        } catch (SQLException ex) {
+            markUnhealthy(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        probe.shutdownNow();
+    }
+}
@@ -0,0 +1,38 @@
+package com.devops.api.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Read replica connection settings. Pool tuning lives under
+ * {@code app.datasource.replica.hikari.*}, mirroring {@code spring.datasource.hikari.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+
+    /** Query run on the replica returning its replay lag in milliseconds. */
+    private String lagQuery = "SELECT 0";
+
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /** Reads fall back to the primary while the measured lag exceeds this. */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * Minimum time after a committed write during which the writing client's
+     * reads stay on the primary, even if the measured lag is lower.
+     */
+    private Duration readYourWritesWindow = Duration.ofMillis(500);
+}
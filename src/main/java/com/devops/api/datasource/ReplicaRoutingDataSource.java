@@ -0,0 +1,69 @@
+package com.devops.api.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Read-only side of the routing proxy: hands out replica connections when the
+ * {@link ReplicaLagGuard} allows it and primary connections otherwise,
+ * including when the replica pool fails to produce a connection.
+ */
+public class ReplicaRoutingDataSource extends DelegatingDataSource {
+
+    private final DataSource replica;
+    private final ReplicaLagGuard guard;
+    private final Counter replicaConnections;
+    private final Map<ReplicaLagGuard.Decision, Counter> fallbacks = new EnumMap<>(ReplicaLagGuard.Decision.class);
+    private final Counter errorFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaLagGuard guard, MeterRegistry meterRegistry) {
+        super(primary);
+        this.replica = replica;
+        this.guard = guard;
+        this.replicaConnections = Counter.builder("products.datasource.reads")
+                .tag("target", "replica")
+                .tag("reason", "read-only")
+                .description("Read-only connections handed out, by target pool")
+                .register(meterRegistry);
+        for (ReplicaLagGuard.Decision decision : ReplicaLagGuard.Decision.values()) {
+            if (decision != ReplicaLagGuard.Decision.REPLICA) {
+                fallbacks.put(decision, fallbackCounter(meterRegistry, decision.name().toLowerCase(Locale.ROOT).replace('_', '-')));
+            }
+        }
+        this.errorFallbacks = fallbackCounter(meterRegistry, "error");
+    }
+
+    private static Counter fallbackCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("products.datasource.reads")
+                .tag("target", "primary")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaLagGuard.Decision decision = guard.decide();
+        if (decision != ReplicaLagGuard.Decision.REPLICA) {
+            fallbacks.get(decision).increment();
+            return super.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException ex) {
+            guard.markUnhealthy(ex);
+            errorFallbacks.increment();
+            return super.getConnection();
+        }
+    }
+}
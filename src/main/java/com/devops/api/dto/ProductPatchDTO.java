@@ -0,0 +1,41 @@
+package com.devops.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Body of {@code PATCH /api/v1/products/{id}}. Only non-null fields are
+ * written; a patch cannot clear the description, use PUT for that.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductPatchDTO {
+
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    @Pattern(regexp = ".*\\S.*", message = "Name cannot be blank")
+    private String name;
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    private String description;
+
+    @DecimalMin(value = "0.01", message = "Price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Price must have at most 2 decimal places")
+    private BigDecimal price;
+
+    @Min(value = 0, message = "Quantity cannot be negative")
+    private Integer quantity;
+
+    @Size(max = 100)
+    @Pattern(regexp = ".*\\S.*", message = "Category cannot be blank")
+    private String category;
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return name == null && description == null && price == null && quantity == null && category == null;
+    }
+}
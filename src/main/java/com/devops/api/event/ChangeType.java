@@ -0,0 +1,8 @@
+package com.devops.api.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    STOCK_CHANGED,
+    DELETED
+}
@@ -0,0 +1,64 @@
+package com.devops.api.event;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Published by {@code ProductServiceImpl} for every product mutation.
+ *
+ * Listeners that must only observe committed data use
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)}.
+ * {@code before} is null for CREATED, {@code after} is null for DELETED.
+ */
+public record ProductChangeEvent(
+        ChangeType type,
+        Long productId,
+        ProductSnapshot before,
+        ProductSnapshot after,
+        Instant occurredAt) {
+
+    public static ProductChangeEvent created(ProductSnapshot after) {
+        return new ProductChangeEvent(ChangeType.CREATED, after.id(), null, after, Instant.now());
+    }
+
+    /**
+     * An update that only touched {@code quantity} is reported as STOCK_CHANGED,
+     * anything else as UPDATED.
+     */
+    public static ProductChangeEvent updated(ProductSnapshot before, ProductSnapshot after) {
+        boolean stockOnly = !Objects.equals(before.quantity(), after.quantity())
+                && Objects.equals(before.name(), after.name())
+                && Objects.equals(before.description(), after.description())
+                && samePrice(before, after)
+                && Objects.equals(before.category(), after.category());
+        ChangeType type = stockOnly ? ChangeType.STOCK_CHANGED : ChangeType.UPDATED;
+        return new ProductChangeEvent(type, after.id(), before, after, Instant.now());
+    }
+
+    public static ProductChangeEvent deleted(ProductSnapshot before) {
+        return new ProductChangeEvent(ChangeType.DELETED, before.id(), before, null, Instant.now());
+    }
+
+    /** The state visible after the change, or the last known state for deletes. */
+    public ProductSnapshot current() {
+        return after != null ? after : before;
+    }
+
+    public String category() {
+        ProductSnapshot current = current();
+        return current != null ? current.category() : null;
+    }
+
+    public boolean quantityChanged() {
+        Integer oldQty = before != null ? before.quantity() : null;
+        Integer newQty = after != null ? after.quantity() : null;
+        return !Objects.equals(oldQty, newQty);
+    }
+
+    private static boolean samePrice(ProductSnapshot a, ProductSnapshot b) {
+        if (a.price() == null || b.price() == null) {
+            return a.price() == b.price();
+        }
+        return a.price().compareTo(b.price()) == 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.devops.api.event;
+
+import com.devops.api.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of a {@link Product} taken inside the write transaction.
+ * Events outlive the persistence context, so they never hold the managed entity.
+ */
+public record ProductSnapshot(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        Integer quantity,
+        String category,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static ProductSnapshot of(Product product) {
+        return new ProductSnapshot(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getQuantity(),
+                product.getCategory(),
+                product.getCreatedAt(),
+                product.getUpdatedAt());
+    }
+
+    /** Detached entity carrying the snapshot's values, for read paths that return {@link Product}. */
+    public Product toProduct() {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .price(price)
+                .quantity(quantity)
+                .category(category)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
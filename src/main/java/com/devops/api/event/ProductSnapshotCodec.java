@@ -0,0 +1,98 @@
+package com.devops.api.event;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact binary form of a {@link ProductSnapshot}, shared by the change log
+ * and the catalog snapshot file (big-endian):
+ *
+ * <pre>
+ * str name, str description, long priceUnscaled, byte priceScale,
+ * int quantity, str category, long createdAt, long updatedAt
+ * str: short byteLength (-1 for null) + UTF-8 bytes
+ * </pre>
+ *
+ * The id is not part of the encoding; callers store it next to the snapshot.
+ * Timestamps are epoch millis of the local date-time read as UTC.
+ */
+public final class ProductSnapshotCodec {
+
+    /** Upper bound for one encoded snapshot given the column limits of the products table. */
+    public static final int MAX_ENCODED_SIZE = 4 * 1024;
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private ProductSnapshotCodec() {
+    }
+
+    public static void write(ProductSnapshot snapshot, ByteBuffer out) {
+        putString(snapshot.name(), out);
+        putString(snapshot.description(), out);
+        BigDecimal price = snapshot.price() != null ? snapshot.price() : BigDecimal.ZERO;
+        out.putLong(price.unscaledValue().longValueExact());
+        out.put((byte) price.scale());
+        out.putInt(snapshot.quantity() != null ? snapshot.quantity() : 0);
+        putString(snapshot.category(), out);
+        out.putLong(toMillis(snapshot.createdAt()));
+        out.putLong(toMillis(snapshot.updatedAt()));
+    }
+
+    public static ProductSnapshot read(long id, ByteBuffer in) {
+        String name = getString(in);
+        String description = getString(in);
+        BigDecimal price = BigDecimal.valueOf(in.getLong(), in.get());
+        int quantity = in.getInt();
+        String category = getString(in);
+        LocalDateTime createdAt = fromMillis(in.getLong());
+        LocalDateTime updatedAt = fromMillis(in.getLong());
+        return new ProductSnapshot(id, name, description, price, quantity, category, createdAt, updatedAt);
+    }
+
+    private static void putString(String value, ByteBuffer out) {
+        if (value == null) {
+            out.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The snapshot as it reads back after encoding: timestamps cut to millis.
+     * Compare through this when one side came from the database, which keeps
+     * microseconds.
+     */
+    public static ProductSnapshot atStoredPrecision(ProductSnapshot snapshot) {
+        return new ProductSnapshot(snapshot.id(), snapshot.name(), snapshot.description(), snapshot.price(),
+                snapshot.quantity(), snapshot.category(), toStoredPrecision(snapshot.createdAt()),
+                toStoredPrecision(snapshot.updatedAt()));
+    }
+
+    private static LocalDateTime toStoredPrecision(LocalDateTime time) {
+        return time != null ? fromMillis(toMillis(time)) : null;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_TIME;
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return millis != NO_TIME ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC) : null;
+    }
+}
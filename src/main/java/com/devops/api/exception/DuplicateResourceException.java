@@ -3,6 +3,6 @@ package com.devops.api.exception;
 public class DuplicateResourceException extends RuntimeException {
 
     public DuplicateResourceException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
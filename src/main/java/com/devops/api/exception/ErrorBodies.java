@@ -0,0 +1,51 @@
+package com.devops.api.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes the {@code ApiResponse.error(..)} JSON for the hot 404/409 paths
+ * without going through Jackson databind. The fixed parts of the document are
+ * encoded once; only the escaped message and the timestamp are appended per
+ * response. The output is byte-for-byte what the {@code ApiResponse} serializer
+ * produces, field order included.
+ */
+public final class ErrorBodies {
+
+    private static final byte[] PREFIX = "{\"success\":false,\"message\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP = "\",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private ErrorBodies() {
+    }
+
+    public static ResponseEntity<byte[]> response(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(encode(message, LocalDateTime.now()));
+    }
+
+    public static byte[] encode(String message, LocalDateTime timestamp) {
+        byte[] text = JsonStringEncoder.getInstance().quoteAsUTF8(message != null ? message : "");
+        byte[] time = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp).getBytes(StandardCharsets.US_ASCII);
+
+        byte[] body = new byte[PREFIX.length + text.length + TIMESTAMP.length + time.length + SUFFIX.length];
+        int pos = 0;
+        System.arraycopy(PREFIX, 0, body, pos, PREFIX.length);
+        pos += PREFIX.length;
+        System.arraycopy(text, 0, body, pos, text.length);
+        pos += text.length;
+        System.arraycopy(TIMESTAMP, 0, body, pos, TIMESTAMP.length);
+        pos += TIMESTAMP.length;
+        System.arraycopy(time, 0, body, pos, time.length);
+        pos += time.length;
+        System.arraycopy(SUFFIX, 0, body, pos, SUFFIX.length);
+        return body;
+    }
+}
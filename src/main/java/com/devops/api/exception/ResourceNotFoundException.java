@@ -1,12 +1,17 @@
 package com.devops.api.exception;
 
+/**
+ * Domain exceptions are expected outcomes mapped straight to a status code by
+ * {@link GlobalExceptionHandler}; none of them record a stack trace, which
+ * would otherwise dominate the cost of a 404.
+ */
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public ResourceNotFoundException(String resourceName, Long id) {
-        super(resourceName + " not found with id: " + id);
+        this(resourceName + " not found with id: " + id);
     }
 }
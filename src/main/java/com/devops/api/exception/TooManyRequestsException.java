@@ -0,0 +1,8 @@
+package com.devops.api.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message, null, false, false);
+    }
+}
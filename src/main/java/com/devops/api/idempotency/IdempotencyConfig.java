@@ -0,0 +1,54 @@
+package com.devops.api.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        IdempotencyStore store = new IdempotencyStore(properties.getMaxEntries(), properties.getTtl(), System::nanoTime);
+        Gauge.builder("products.idempotency.entries", store, IdempotencyStore::size)
+                .description("Idempotency keys held, finished or in flight")
+                .register(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store,
+                                                                      IdempotencyProperties properties,
+                                                                      ObjectMapper objectMapper,
+                                                                      MeterRegistry meterRegistry) {
+        IdempotencyFilter filter = new IdempotencyFilter(store, properties, objectMapper,
+                replays("stored", meterRegistry), replays("collapsed", meterRegistry),
+                collisions("payload-mismatch", meterRegistry), collisions("in-progress", meterRegistry));
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/products", "/api/v1/products/*");
+        // Inside the request log, but ahead of the concurrency limiter: replays never need a write slot
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    private static Counter replays(String source, MeterRegistry meterRegistry) {
+        return Counter.builder("products.idempotency.replays")
+                .tag("source", source)
+                .description("Keyed writes answered with an earlier response instead of running again")
+                .register(meterRegistry);
+    }
+
+    private static Counter collisions(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("products.idempotency.collisions")
+                .tag("reason", reason)
+                .description("Keyed writes rejected because the key was in use")
+                .register(meterRegistry);
+    }
+}
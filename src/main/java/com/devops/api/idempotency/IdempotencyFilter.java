@@ -0,0 +1,249 @@
+package com.devops.api.idempotency;
+
+import com.devops.api.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Makes product creates and updates safe to retry: a request carrying an
+ * {@code Idempotency-Key} header runs once, and any repeat with the same key
+ * gets the first response back from memory without reaching the controller.
+ *
+ * A repeat that arrives while the first is still running waits for its
+ * response. A key reused for a different method, path or body is rejected
+ * with 422. Server errors, conflicts and throttling are not stored, so the
+ * caller's next retry runs the request again.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /** ProductController's own write routes: POST /api/v1/products, PUT and PATCH /api/v1/products/{id}. */
+    private static final Pattern PRODUCT_WRITE = Pattern.compile("/api/v1/products(/\\d+)?");
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Counter storedReplays;
+    private final Counter collapsedReplays;
+    private final Counter payloadCollisions;
+    private final Counter inProgressCollisions;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper,
+                             Counter storedReplays, Counter collapsedReplays,
+                             Counter payloadCollisions, Counter inProgressCollisions) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.storedReplays = storedReplays;
+        this.collapsedReplays = collapsedReplays;
+        this.payloadCollisions = payloadCollisions;
+        this.inProgressCollisions = inProgressCollisions;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean write = HttpMethod.POST.matches(method) || HttpMethod.PUT.matches(method)
+                || HttpMethod.PATCH.matches(method);
+        return !write || request.getHeader(HEADER) == null
+                || !PRODUCT_WRITE.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > properties.getMaxKeyLength()) {
+            reject(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be between 1 and " + properties.getMaxKeyLength() + " characters");
+            return;
+        }
+        byte[] body = request.getInputStream().readAllBytes();
+        String fingerprint = fingerprint(request, body);
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(key, fingerprint);
+            if (claim instanceof IdempotencyStore.Owner owner) {
+                execute(new CachedBodyRequest(request, body), response, chain, owner.entry());
+                return;
+            }
+            if (claim instanceof IdempotencyStore.Replay replay) {
+                storedReplays.increment();
+                replay(response, replay.response());
+                return;
+            }
+            if (claim instanceof IdempotencyStore.Mismatch) {
+                payloadCollisions.increment();
+                reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        HEADER + " was already used for a different request");
+                return;
+            }
+            StoredResponse collapsed = await(((IdempotencyStore.InFlight) claim).response(), deadline);
+            if (collapsed != null) {
+                collapsedReplays.increment();
+                replay(response, collapsed);
+                return;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                inProgressCollisions.increment();
+                reject(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+                return;
+            }
+            // The owner abandoned the key; claim it again, possibly becoming the owner
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                         IdempotencyStore.Entry entry) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            byte[] body = wrapper.getContentAsByteArray();
+            if (isStorable(status) && body.length <= properties.getMaxBodyBytes()) {
+                store.complete(entry, new StoredResponse(status, wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.ETAG), body));
+                stored = true;
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            if (!stored) {
+                store.abandon(entry);
+            }
+        }
+    }
+
+    /** Success and client errors are final; 408, 409 and 429 say "try again", as do 5xx. */
+    private static boolean isStorable(int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value()
+                && status != HttpStatus.REQUEST_TIMEOUT.value()
+                && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static StoredResponse await(CompletableFuture<StoredResponse> pending, long deadline)
+            throws IOException {
+        try {
+            return pending.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for an in-flight request", ex);
+        }
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.eTag());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /** Replays a body that was already read to compute the fingerprint. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Body is already buffered");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.devops.api.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    /** Stored responses kept at most; the oldest finished ones are evicted first. */
+    private int maxEntries = 10_000;
+
+    /** How long a stored response is replayed, counted from when it finished. */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * How long a request waits for an in-flight one with the same key before
+     * giving up with 409; longer than any write should take.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /** Responses larger than this are passed through but not stored. */
+    private int maxBodyBytes = 64 * 1024;
+
+    /** Longest accepted Idempotency-Key value. */
+    private int maxKeyLength = 255;
+}
@@ -0,0 +1,125 @@
+package com.devops.api.idempotency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, TTL-evicted map from Idempotency-Key to the first response given
+ * for it.
+ *
+ * The first request to {@link #claim} a key becomes its owner and must call
+ * {@link #complete} or {@link #abandon}; later requests with the same key and
+ * fingerprint get the stored response, or a future for it while the owner is
+ * still running. Finished entries are queued in completion order, which is
+ * also their expiry order since every entry gets the same TTL, and are evicted
+ * oldest first. In-flight entries are never queued or evicted, so a slow write
+ * does not hold up eviction of the keys behind it; the map may run over its
+ * bound by the number of writes in progress.
+ */
+public class IdempotencyStore {
+
+    /** Outcome of {@link #claim}. */
+    public sealed interface Claim {
+    }
+
+    /** The caller runs the request and must then {@link #complete} or {@link #abandon} the entry. */
+    public record Owner(Entry entry) implements Claim {
+    }
+
+    /** A finished response for the same key and request. */
+    public record Replay(StoredResponse response) implements Claim {
+    }
+
+    /** Another request with this key is running; the future yields its response, or null if it was abandoned. */
+    public record InFlight(CompletableFuture<StoredResponse> response) implements Claim {
+    }
+
+    /** The key was already used for a different request. */
+    public record Mismatch() implements Claim {
+    }
+
+    public static final class Entry {
+        private final String key;
+        private final String fingerprint;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(String key, String fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> finished = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    public IdempotencyStore(int maxEntries, Duration ttl, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * @param fingerprint identifies the request (method, path and body), so a
+     *                    key reused for a different request is caught rather than replayed
+     */
+    public Claim claim(String key, String fingerprint) {
+        long now = clock.getAsLong();
+        evict(now);
+        Entry[] created = {null};
+        Entry entry = entries.compute(key, (k, current) -> {
+            if (current == null || current.expiresAt - now <= 0) {
+                created[0] = new Entry(k, fingerprint);
+                return created[0];
+            }
+            return current;
+        });
+        if (entry == created[0]) {
+            return new Owner(entry);
+        }
+        if (!entry.fingerprint.equals(fingerprint)) {
+            return new Mismatch();
+        }
+        StoredResponse response = entry.response.getNow(null);
+        return response != null ? new Replay(response) : new InFlight(entry.response);
+    }
+
+    /** Stores the owner's response and hands it to everyone waiting on the key. */
+    public void complete(Entry entry, StoredResponse response) {
+        entry.expiresAt = clock.getAsLong() + ttlNanos;
+        entry.response.complete(response);
+        finished.add(entry);
+    }
+
+    /** Forgets the key, e.g. after a failure worth retrying; waiters get null and claim it again. */
+    public void abandon(Entry entry) {
+        entries.remove(entry.key, entry);
+        entry.response.complete(null);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = finished.peek()) != null) {
+            boolean expired = oldest.expiresAt - now <= 0;
+            boolean replaced = entries.get(oldest.key) != oldest;
+            if (!replaced && !expired && entries.size() < maxEntries) {
+                return;
+            }
+            if (finished.remove(oldest)) {
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.devops.api.idempotency;
+
+/** What a keyed write answered with; enough to replay it byte for byte. */
+public record StoredResponse(int status, String contentType, String eTag, byte[] body) {
+}
@@ -0,0 +1,107 @@
+package com.devops.api.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, fields optionally
+ * enclosed in double quotes, {@code ""} for a literal quote, and line breaks
+ * allowed inside quoted fields. Holds one record in memory at a time.
+ */
+final class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = -2;
+    private long line = 1;
+    private long recordLine;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** Next record's fields, or null at end of input. Blank lines are skipped. */
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        recordLine = line;
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                line++;
+                if (fieldStarted || !field.isEmpty() || !fields.isEmpty()) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                recordLine = line;
+            } else {
+                field.append((char) c);
+                fieldStarted = true;
+            }
+        }
+        if (quoted) {
+            throw new IOException("Unterminated quoted field starting on line " + recordLine);
+        }
+        if (fieldStarted || !field.isEmpty() || !fields.isEmpty()) {
+            fields.add(field.toString());
+            return fields;
+        }
+        return null;
+    }
+
+    /** Line number on which the record last returned by {@link #next()} started. */
+    long recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,61 @@
+package com.devops.api.importer;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Keeps imports from competing with interactive requests for the write pool.
+ *
+ * Before each batch the worker waits until the pool could hand out a
+ * connection and still have {@code reservedConnections} left, and nobody is
+ * queued for one. Interactive traffic therefore always wins; an import under
+ * load slows down instead of adding to connection wait times.
+ */
+@Component
+@Slf4j
+public class ImportBackpressure {
+
+    private final ImportProperties properties;
+    private final HikariDataSource pool;
+    private final Counter waits;
+
+    public ImportBackpressure(DataSource dataSource, ImportProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pool = hikari(dataSource);
+        this.waits = Counter.builder("products.import.backpressure.waits")
+                .description("Times an import batch waited for the connection pool to calm down")
+                .register(meterRegistry);
+    }
+
+    void awaitCapacity() throws InterruptedException {
+        while (isBusy()) {
+            waits.increment();
+            Thread.sleep(properties.getBackoff().toMillis());
+        }
+    }
+
+    boolean isBusy() {
+        HikariPoolMXBean mxBean = pool != null ? pool.getHikariPoolMXBean() : null;
+        if (mxBean == null) {
+            return false;
+        }
+        int available = mxBean.getIdleConnections() + (pool.getMaximumPoolSize() - mxBean.getTotalConnections());
+        return mxBean.getThreadsAwaitingConnection() > 0 || available - 1 < properties.getReservedConnections();
+    }
+
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            log.warn("Import backpressure disabled, cannot inspect the connection pool: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.devops.api.importer;
+
+import com.devops.api.dto.ProductDTO;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes one batch of validated rows in a single transaction: products are
+ * matched by case-insensitive name with one query, then created or updated.
+ * Publishes the same change events as {@code ProductServiceImpl}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportBatchWriter {
+
+    record Result(int created, int updated, int unchanged) {
+    }
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Result write(List<ProductDTO> rows) {
+        List<String> names = rows.stream().map(row -> key(row.getName())).distinct().toList();
+        Map<String, Product> byName = new HashMap<>();
+        Map<Product, ProductSnapshot> before = new IdentityHashMap<>();
+        Map<Product, Long> versionBefore = new IdentityHashMap<>();
+        for (Product existing : productRepository.findByLowerNameIn(names)) {
+            byName.put(key(existing.getName()), existing);
+            before.put(existing, ProductSnapshot.of(existing));
+            versionBefore.put(existing, existing.getVersion());
+        }
+
+        Map<String, Product> touched = new LinkedHashMap<>();
+        int created = 0;
+        for (ProductDTO row : rows) {
+            String key = key(row.getName());
+            Product product = byName.get(key);
+            if (product == null) {
+                product = new Product();
+                byName.put(key, product);
+                created++;
+            }
+            product.setName(row.getName());
+            product.setDescription(row.getDescription());
+            product.setPrice(row.getPrice());
+            product.setQuantity(row.getQuantity());
+            product.setCategory(row.getCategory());
+            touched.put(key, product);
+        }
+
+        // A name repeated within the batch counts as an update of its earlier occurrence
+        int updated = rows.size() - touched.size();
+        int unchanged = 0;
+        for (Product saved : productRepository.saveAllAndFlush(touched.values())) {
+            ProductSnapshot previous = before.get(saved);
+            ProductSnapshot current = ProductSnapshot.of(saved);
+            if (previous == null) {
+                eventPublisher.publishEvent(ProductChangeEvent.created(current));
+            } else if (Objects.equals(versionBefore.get(saved), saved.getVersion())) {
+                // Hibernate's dirty check found nothing to write (it compares prices ignoring scale)
+                unchanged++;
+            } else {
+                eventPublisher.publishEvent(ProductChangeEvent.updated(previous, current));
+                updated++;
+            }
+        }
+        return new Result(created, updated, unchanged);
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,93 @@
+package com.devops.api.importer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import. Counters are written by the worker thread and
+ * read by status requests; {@link #status()} returns a consistent-enough copy.
+ */
+final class ImportJob {
+
+    enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String fileName;
+    private final int maxReportedErrors;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<ImportJobStatus.RowError> errors = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failure;
+
+    ImportJob(String fileName, int maxReportedErrors) {
+        this.fileName = fileName;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    String id() {
+        return id;
+    }
+
+    boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void written(ImportBatchWriter.Result result) {
+        created.addAndGet(result.created());
+        updated.addAndGet(result.updated());
+        unchanged.addAndGet(result.unchanged());
+    }
+
+    void reject(long line, String message) {
+        rejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportJobStatus.RowError(line, message));
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String message) {
+        failure = message;
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    ImportJobStatus status() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = startedAt != null ? Duration.between(startedAt, end).toMillis() / 1000.0 : 0;
+        long processed = created.get() + updated.get() + unchanged.get() + rejected.get();
+        List<ImportJobStatus.RowError> errorCopy;
+        synchronized (errors) {
+            errorCopy = List.copyOf(errors);
+        }
+        return new ImportJobStatus(id, fileName, state.name(), submittedAt, startedAt, finishedAt,
+                rowsRead.get(), processed, created.get(), updated.get(), unchanged.get(), rejected.get(),
+                seconds > 0 ? Math.round(processed / seconds) : 0, errorCopy, failure);
+    }
+}
@@ -0,0 +1,29 @@
+package com.devops.api.importer;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Snapshot of an import job. {@code rowsProcessed} counts rows that were
+ * created, updated, left unchanged or rejected; {@code errors} holds the first rejected rows only.
+ */
+public record ImportJobStatus(
+        String id,
+        String fileName,
+        String state,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        long rowsRead,
+        long rowsProcessed,
+        long created,
+        long updated,
+        long unchanged,
+        long rejected,
+        long rowsPerSecond,
+        List<RowError> errors,
+        String failure) {
+
+    public record RowError(long line, String message) {
+    }
+}
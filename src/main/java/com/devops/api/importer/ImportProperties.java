@@ -0,0 +1,34 @@
+package com.devops.api.importer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    /** Rows written per transaction. */
+    private int batchSize = 500;
+
+    /** Imports running at the same time; each holds at most one pool connection. */
+    private int workerThreads = 1;
+
+    /** Uploaded files waiting for a worker; further uploads get 429. */
+    private int queueCapacity = 4;
+
+    /** Pool connections kept free for interactive requests; batches wait while fewer are idle. */
+    private int reservedConnections = 3;
+
+    /** Pause before re-checking the pool when it is too busy for the next batch. */
+    private Duration backoff = Duration.ofMillis(100);
+
+    /** Row errors kept per job; later errors are only counted. */
+    private int maxReportedErrors = 100;
+
+    /** Finished jobs kept for the status endpoint. */
+    private int retainedJobs = 50;
+}
@@ -0,0 +1,298 @@
+package com.devops.api.importer;
+
+import com.devops.api.dto.ProductDTO;
+import com.devops.api.exception.ResourceNotFoundException;
+import com.devops.api.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs CSV catalog imports as background jobs.
+ *
+ * The upload is spooled to a temp file and the request returns at once. A
+ * small dedicated pool then streams the file row by row, validates each row
+ * against the {@link ProductDTO} constraints and writes valid rows in batched
+ * transactions through {@link ImportBatchWriter}. Memory use is one batch,
+ * whatever the file size.
+ */
+@Service
+@Slf4j
+public class ProductImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "price", "quantity", "category");
+
+    private final ImportProperties properties;
+    private final ImportBatchWriter batchWriter;
+    private final ImportBackpressure backpressure;
+    private final Validator validator;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+    private final Map<String, Counter> rowCounters = new HashMap<>();
+
+    public ProductImportService(ImportProperties properties, ImportBatchWriter batchWriter,
+                                ImportBackpressure backpressure, Validator validator,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.batchWriter = batchWriter;
+        this.backpressure = backpressure;
+        this.validator = validator;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "product-import-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        for (String outcome : List.of("created", "updated", "unchanged", "rejected")) {
+            rowCounters.put(outcome, Counter.builder("products.import.rows")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("products.import.queued", executor, pool -> pool.getQueue().size())
+                .description("Uploaded imports waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("products.import.running", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public ImportJobStatus submit(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Uploaded CSV file is empty");
+        }
+        Path spooled = Files.createTempFile("product-import-", ".csv");
+        file.transferTo(spooled);
+
+        ImportJob job = new ImportJob(file.getOriginalFilename(), properties.getMaxReportedErrors());
+        register(job);
+        try {
+            executor.execute(() -> run(job, spooled));
+        } catch (RejectedExecutionException ex) {
+            synchronized (jobs) {
+                jobs.remove(job.id());
+            }
+            Files.deleteIfExists(spooled);
+            throw new TooManyRequestsException("Too many imports in progress, please retry later");
+        }
+        log.info("Import {} queued for {}", job.id(), file.getOriginalFilename());
+        return job.status();
+    }
+
+    public ImportJobStatus getStatus(String jobId) {
+        synchronized (jobs) {
+            ImportJob job = jobs.get(jobId);
+            if (job == null) {
+                throw new ResourceNotFoundException("Import job not found: " + jobId);
+            }
+            return job.status();
+        }
+    }
+
+    /** Known jobs, newest first. */
+    public List<ImportJobStatus> getRecent() {
+        List<ImportJobStatus> statuses;
+        synchronized (jobs) {
+            statuses = new ArrayList<>(jobs.values().stream().map(ImportJob::status).toList());
+        }
+        statuses.sort(Comparator.comparing(ImportJobStatus::submittedAt).reversed());
+        return statuses;
+    }
+
+    void run(ImportJob job, Path file) {
+        job.start();
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<String> header = csv.next();
+            if (header == null) {
+                job.fail("CSV file has no header row");
+                return;
+            }
+            Map<String, Integer> columns = columns(header);
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+            if (!missing.isEmpty()) {
+                job.fail("CSV header is missing columns: " + missing);
+                return;
+            }
+
+            List<ProductDTO> batch = new ArrayList<>(properties.getBatchSize());
+            List<Long> lines = new ArrayList<>(properties.getBatchSize());
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                job.rowRead();
+                long line = csv.recordLine();
+                String error = null;
+                ProductDTO row = null;
+                try {
+                    row = toDto(fields, columns);
+                    error = validate(row);
+                } catch (IllegalArgumentException ex) {
+                    error = ex.getMessage();
+                }
+                if (error != null) {
+                    job.reject(line, error);
+                    continue;
+                }
+                batch.add(row);
+                lines.add(line);
+                if (batch.size() >= properties.getBatchSize()) {
+                    flush(job, batch, lines);
+                }
+            }
+            flush(job, batch, lines);
+            job.complete();
+            log.info("Import {} completed: {}", job.id(), job.status());
+        } catch (IOException ex) {
+            job.fail("Could not read CSV: " + ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("Import interrupted");
+        } catch (RuntimeException ex) {
+            log.error("Import {} failed", job.id(), ex);
+            job.fail(ex.getMessage());
+        } finally {
+            deleteQuietly(file);
+            recordMetrics(job.status());
+        }
+    }
+
+    private void flush(ImportJob job, List<ProductDTO> batch, List<Long> lines) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        backpressure.awaitCapacity();
+        try {
+            job.written(batchWriter.write(batch));
+        } catch (RuntimeException batchFailure) {
+            // Isolate the offending rows so one bad row doesn't reject the whole batch
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    job.written(batchWriter.write(List.of(batch.get(i))));
+                } catch (RuntimeException ex) {
+                    job.reject(lines.get(i), rootMessage(ex));
+                }
+            }
+        }
+        batch.clear();
+        lines.clear();
+    }
+
+    private static Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        return columns;
+    }
+
+    private static ProductDTO toDto(List<String> fields, Map<String, Integer> columns) {
+        String price = field(fields, columns, "price");
+        String quantity = field(fields, columns, "quantity");
+        try {
+            return ProductDTO.builder()
+                    .name(field(fields, columns, "name"))
+                    .description(field(fields, columns, "description"))
+                    .price(price != null ? new BigDecimal(price) : null)
+                    .quantity(quantity != null ? Integer.valueOf(quantity) : null)
+                    .category(field(fields, columns, "category"))
+                    .build();
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("price and quantity must be numbers (got '"
+                    + price + "', '" + quantity + "')");
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String validate(ProductDTO row) {
+        Set<ConstraintViolation<ProductDTO>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void register(ImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.id(), job);
+            int excess = jobs.size() - properties.getRetainedJobs();
+            Iterator<ImportJob> iterator = jobs.values().iterator();
+            while (excess > 0 && iterator.hasNext()) {
+                if (iterator.next().isFinished()) {
+                    iterator.remove();
+                    excess--;
+                }
+            }
+        }
+    }
+
+    private void recordMetrics(ImportJobStatus status) {
+        rowCounters.get("created").increment(status.created());
+        rowCounters.get("updated").increment(status.updated());
+        rowCounters.get("unchanged").increment(status.unchanged());
+        rowCounters.get("rejected").increment(status.rejected());
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable root = ex;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete spooled import file {}: {}", file, ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
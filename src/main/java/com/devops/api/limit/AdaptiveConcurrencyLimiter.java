@@ -0,0 +1,111 @@
+package com.devops.api.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to observed latency, following TCP Vegas.
+ *
+ * The lowest latency seen approximates the no-queueing time of a request.
+ * From each sample the number of requests queued behind the bottleneck is
+ * estimated as {@code limit × (1 − minRtt / rtt)}; the limit grows while
+ * that queue is short and shrinks once it gets long. When PostgreSQL slows
+ * down, latency rises before the pool times out, so the limit drops and
+ * excess requests are rejected instead of piling up on Hikari.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties.Limit settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile int limit;
+    // guarded by this
+    private double estimatedLimit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long samplesUntilProbe;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties.Limit settings) {
+        this.settings = settings;
+        this.estimatedLimit = settings.getInitialLimit();
+        this.limit = settings.getInitialLimit();
+        this.samplesUntilProbe = nextProbe();
+    }
+
+    /** Takes a slot, or returns false if the current limit is reached. */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot taken by {@link #tryAcquire()} and feeds the request's
+     * latency into the limit. {@code overloaded} marks a sample that failed
+     * because of server-side trouble.
+     */
+    public void release(long rttNanos, boolean overloaded) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion, overloaded);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion, boolean overloaded) {
+        if (overloaded) {
+            estimatedLimit = Math.max(settings.getMinLimit(), estimatedLimit * settings.getBackoffRatio());
+            limit = (int) estimatedLimit;
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (--samplesUntilProbe <= 0) {
+            // Forget the old baseline so a permanently slower backend is learned as the new normal
+            minRttNanos = rttNanos;
+            samplesUntilProbe = nextProbe();
+        } else if (rttNanos < minRttNanos) {
+            minRttNanos = rttNanos;
+        }
+        // Without enough concurrency the latency says nothing about the limit
+        if (inFlightAtCompletion * 2 < limit) {
+            return;
+        }
+
+        double queue = estimatedLimit * (1.0 - (double) minRttNanos / rttNanos);
+        double step = Math.max(1.0, Math.log10(estimatedLimit));
+        double alpha = 3 * step;
+        double beta = 6 * step;
+
+        if (queue <= alpha) {
+            estimatedLimit += step;
+        } else if (queue >= beta) {
+            estimatedLimit -= step;
+        } else {
+            return;
+        }
+        estimatedLimit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private long nextProbe() {
+        return (long) settings.getProbeInterval() * Math.max(1, limit);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
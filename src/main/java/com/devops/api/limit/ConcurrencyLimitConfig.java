@@ -0,0 +1,60 @@
+package com.devops.api.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter readConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        return register(new AdaptiveConcurrencyLimiter(properties.getRead()), "read", meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter writeConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                              MeterRegistry meterRegistry) {
+        return register(new AdaptiveConcurrencyLimiter(properties.getWrite()), "write", meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Qualifier("readConcurrencyLimiter") AdaptiveConcurrencyLimiter readLimiter,
+            @Qualifier("writeConcurrencyLimiter") AdaptiveConcurrencyLimiter writeLimiter,
+            ConcurrencyLimitProperties properties,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(readLimiter, writeLimiter, objectMapper,
+                        properties.getRetryAfter().toSeconds()));
+        registration.addUrlPatterns("/api/v1/products/*");
+        // Run before anything that could block on the database
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static AdaptiveConcurrencyLimiter register(AdaptiveConcurrencyLimiter limiter, String type,
+                                                       MeterRegistry meterRegistry) {
+        Gauge.builder("products.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("type", type)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("products.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("type", type)
+                .register(meterRegistry);
+        FunctionCounter.builder("products.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .tag("type", type)
+                .description("Requests shed with 503 because the limit was reached")
+                .register(meterRegistry);
+        return limiter;
+    }
+}
@@ -0,0 +1,76 @@
+package com.devops.api.limit;
+
+import com.devops.api.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds product API requests beyond the adaptive read/write limits with a
+ * fast 503 instead of letting them queue for a database connection.
+ * Long-lived SSE subscriptions are not counted, nor are CSV uploads, whose
+ * duration is network time and would distort the latency signal.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter readLimiter,
+                                  AdaptiveConcurrencyLimiter writeLimiter,
+                                  ObjectMapper objectMapper,
+                                  long retryAfterSeconds) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfterSeconds));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.endsWith("/stream") || uri.endsWith("/import");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean overloaded = true;
+        try {
+            chain.doFilter(request, response);
+            overloaded = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, overloaded);
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Server is busy, please retry after " + retryAfterSeconds + "s"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.devops.api.limit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Value of the Retry-After header on shed requests. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /** GET/HEAD requests. */
+    private Limit read = new Limit(40, 8, 200);
+
+    /** POST/PUT/PATCH/DELETE requests; kept lower since they hold row locks and the primary. */
+    private Limit write = new Limit(10, 2, 50);
+
+    @Data
+    public static class Limit {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        /** Multiplier applied when a request fails with a 5xx, a strong overload signal. */
+        private double backoffRatio = 0.9;
+
+        /** Re-learn the no-load latency every {@code probeInterval × limit} samples. */
+        private int probeInterval = 1_000;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.devops.api.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Iterator;
+
+@Configuration
+public class RequestLogConfig {
+
+    public RequestLogConfig(MeterRegistry meterRegistry) {
+        registerAppenderMetrics(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter(RequestLogProperties properties,
+                                                                     MeterRegistry meterRegistry) {
+        Counter logged = Counter.builder("products.request-log.events")
+                .tag("decision", "logged")
+                .description("API requests considered for the sampled request log")
+                .register(meterRegistry);
+        Counter skipped = Counter.builder("products.request-log.events")
+                .tag("decision", "sampled-out")
+                .register(meterRegistry);
+        FilterRegistrationBean<RequestLogFilter> registration = new FilterRegistrationBean<>(
+                new RequestLogFilter(new RequestLogSampler(properties), logged, skipped));
+        registration.addUrlPatterns("/api/*");
+        registration.setEnabled(properties.isEnabled());
+        // Outermost, so shed (503) requests and their latency are logged too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /** Exposes every {@link RingBufferAppender} configured on the root logger. */
+    private static void registerAppenderMetrics(MeterRegistry meterRegistry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof RingBufferAppender ring) {
+                String policy = ring.getOverflowPolicy().name();
+                FunctionCounter.builder("products.logging.dropped", ring, RingBufferAppender::getDropped)
+                        .tags("appender", ring.getName(), "policy", policy)
+                        .description("Log events discarded because the ring buffer was full")
+                        .register(meterRegistry);
+                FunctionCounter.builder("products.logging.blocked", ring, RingBufferAppender::getBlocked)
+                        .tags("appender", ring.getName(), "policy", policy)
+                        .description("Log calls that waited for ring buffer space")
+                        .register(meterRegistry);
+                Gauge.builder("products.logging.queued", ring, RingBufferAppender::getQueued)
+                        .tag("appender", ring.getName())
+                        .description("Log events waiting to be written")
+                        .register(meterRegistry);
+                Gauge.builder("products.logging.capacity", ring, appender -> appender.getCapacity())
+                        .tag("appender", ring.getName())
+                        .register(meterRegistry);
+            }
+        }
+    }
+}
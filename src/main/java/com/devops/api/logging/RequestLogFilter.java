@@ -0,0 +1,88 @@
+package com.devops.api.logging;
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs a sample of API requests as one line of key-value fields: operation
+ * (the controller method), id, status and latency. Replaces per-call INFO
+ * logging in the service layer, which wrote every read.
+ */
+@Slf4j
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private final RequestLogSampler sampler;
+    private final Counter logged;
+    private final Counter skipped;
+
+    public RequestLogFilter(RequestLogSampler sampler, Counter logged, Counter skipped) {
+        this.sampler = sampler;
+        this.logged = logged;
+        this.skipped = skipped;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        Exception failure = null;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            record(request, response, System.nanoTime() - start, failure);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long latencyNanos,
+                        Exception failure) {
+        int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        String operation = operation(request);
+        if (!sampler.shouldLog(operation, status, latencyNanos)) {
+            skipped.increment();
+            return;
+        }
+        logged.increment();
+        LoggingEventBuilder event = log.atLevel(status >= 500 ? Level.WARN : Level.INFO)
+                .addKeyValue("operation", operation)
+                .addKeyValue("method", request.getMethod());
+        Object id = pathVariables(request).get("id");
+        if (id != null) {
+            event = event.addKeyValue("id", id);
+        }
+        event = event.addKeyValue("status", status)
+                .addKeyValue("latencyMs", TimeUnit.NANOSECONDS.toMicros(latencyNanos) / 1000.0);
+        if (failure != null) {
+            event = event.addKeyValue("error", failure.getClass().getSimpleName());
+        }
+        event.log("request");
+    }
+
+    private static String operation(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getMethod().getName();
+        }
+        return request.getMethod() + " " + request.getRequestURI();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> pathVariables(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+}
@@ -0,0 +1,30 @@
+package com.devops.api.logging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.request-log")
+public class RequestLogProperties {
+
+    /** Write one structured line per sampled API request. */
+    private boolean enabled = true;
+
+    /** Fraction of successful requests logged when the operation has no rate of its own. */
+    private double sampleRate = 0.01;
+
+    /** Per-operation rates keyed by controller method name, e.g. getProductById=0.001. */
+    private Map<String, Double> operations = new HashMap<>();
+
+    /** Fraction of 4xx/5xx responses logged. */
+    private double errorSampleRate = 1.0;
+
+    /** Requests at least this slow are always logged. */
+    private Duration slowThreshold = Duration.ofMillis(500);
+}
@@ -0,0 +1,23 @@
+package com.devops.api.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Decides which requests are logged; errors and slow requests win over the per-operation rate. */
+public class RequestLogSampler {
+
+    private final RequestLogProperties properties;
+
+    public RequestLogSampler(RequestLogProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean shouldLog(String operation, int status, long latencyNanos) {
+        if (latencyNanos >= properties.getSlowThreshold().toNanos()) {
+            return true;
+        }
+        double rate = status >= 400
+                ? properties.getErrorSampleRate()
+                : properties.getOperations().getOrDefault(operation, properties.getSampleRate());
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
@@ -0,0 +1,185 @@
+package com.devops.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Logback appender that hands events to a {@link LogRingBuffer} and writes
+ * them to the attached appenders from one background thread.
+ *
+ * Logging threads only pay for a CAS; the encoder and the output stream lock
+ * are touched by the writer thread alone. When the ring is full, events below
+ * {@code neverDropLevel} are dropped under the DROP policy, while BLOCK makes
+ * the logging thread wait for space. Configured from {@code logback-spring.xml}.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private int capacity = 8192;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Level neverDropLevel = Level.WARN;
+    private volatile LogRingBuffer<ILoggingEvent> buffer;
+    private volatile boolean running;
+    private Thread writer;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to " + getName());
+            return;
+        }
+        buffer = new LogRingBuffer<>(capacity);
+        running = true;
+        writer = new Thread(this::drain, "log-ring-" + getName());
+        writer.setDaemon(true);
+        writer.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Resolve the message, MDC and thread name now; they are gone once the caller returns
+        event.prepareForDeferredProcessing();
+        LogRingBuffer<ILoggingEvent> ring = buffer;
+        if (ring.offer(event)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP && !event.getLevel().isGreaterOrEqual(neverDropLevel)) {
+            dropped.increment();
+            return;
+        }
+        blocked.increment();
+        while (running && !ring.offer(event)) {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+
+    private void drain() {
+        long idlePark = 1_000;
+        while (true) {
+            ILoggingEvent event = buffer.poll();
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+                idlePark = 1_000;
+            } else if (!running) {
+                return;
+            } else {
+                LockSupport.parkNanos(idlePark);
+                idlePark = Math.min(idlePark * 2, MAX_IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    // ─── Metrics ─────────────────────────────────────────────────────────────
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getBlocked() {
+        return blocked.sum();
+    }
+
+    public int getQueued() {
+        LogRingBuffer<ILoggingEvent> ring = buffer;
+        return ring != null ? ring.size() : 0;
+    }
+
+    // ─── Configuration (Joran setters) ───────────────────────────────────────
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(String overflowPolicy) {
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public void setNeverDropLevel(String level) {
+        this.neverDropLevel = Level.toLevel(level, Level.WARN);
+    }
+
+    // ─── AppenderAttachable ──────────────────────────────────────────────────
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,35 @@
+package com.devops.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A product change committed in the same transaction as the product row and
+ * not yet appended to the change log. {@code payload} is the encoded change
+ * log record.
+ */
+@Entity
+@Table(name = "product_change_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductChangeOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 8192)
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,65 @@
+package com.devops.api.pool;
+
+import java.time.Instant;
+
+/**
+ * One physical connection from acquire to close. Statement execution is
+ * timed so the part of the hold spent waiting on the application, rather than
+ * the database, can be reported.
+ */
+final class ConnectionLease {
+
+    final long id;
+    final String pool;
+    final String caller;
+    final Thread thread;
+    final Instant acquiredAt;
+    final long acquiredNanos;
+    final long waitNanos;
+    final StackTraceElement[] acquireStack;
+
+    volatile boolean longHoldReported;
+    volatile boolean leakReported;
+
+    private int executing;
+    private long statementStart;
+    private long busyNanos;
+
+    ConnectionLease(long id, String pool, String caller, Thread thread, long acquiredNanos, long waitNanos,
+                    StackTraceElement[] acquireStack) {
+        this.id = id;
+        this.pool = pool;
+        this.caller = caller;
+        this.thread = thread;
+        this.acquiredAt = Instant.now();
+        this.acquiredNanos = acquiredNanos;
+        this.waitNanos = waitNanos;
+        this.acquireStack = acquireStack;
+    }
+
+    synchronized void statementStarted(long now) {
+        if (executing++ == 0) {
+            statementStart = now;
+        }
+    }
+
+    synchronized void statementFinished(long now) {
+        if (--executing == 0) {
+            busyNanos += now - statementStart;
+        }
+    }
+
+    synchronized boolean isExecuting() {
+        return executing > 0;
+    }
+
+    /** Time held without a statement running: open transaction, result processing, or plain leaking. */
+    synchronized long idleNanos(long now) {
+        long busy = busyNanos + (executing > 0 ? now - statementStart : 0);
+        return Math.max(0, now - acquiredNanos - busy);
+    }
+
+    long heldNanos(long now) {
+        return now - acquiredNanos;
+    }
+}
@@ -0,0 +1,23 @@
+package com.devops.api.pool;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/pool}: who holds each connection right now, per-caller
+ * wait/hold/idle totals, and recent long holds with stack snapshots.
+ */
+@Component
+@Endpoint(id = "pool")
+@RequiredArgsConstructor
+public class PoolEndpoint {
+
+    private final PoolProfiler profiler;
+
+    @ReadOperation
+    public PoolReport pool() {
+        return profiler.report();
+    }
+}
@@ -0,0 +1,315 @@
+package com.devops.api.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attributes connection-pool usage to the service method that took the
+ * connection: how long it waited for one, how long it held it, and how much of
+ * that hold was spent with no statement running.
+ *
+ * The caller is the innermost frame in the application package at acquire
+ * time. With a plain pool that is the {@code @Transactional} proxy of the
+ * service method, since the transaction manager borrows the connection when
+ * the transaction begins; behind the replica routing proxy it is whatever ran
+ * the first statement.
+ *
+ * A background scan flags holds over {@code long-hold-threshold} once, with a
+ * snapshot of the holder thread's stack, and again as a probable leak past
+ * {@code leak-threshold}.
+ */
+@Component
+@Slf4j
+public class PoolProfiler {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final String OWN_PACKAGE = PoolProfiler.class.getPackageName() + ".";
+    private static final String DATASOURCE_PACKAGE = "com.devops.api.datasource.";
+
+    private record UsageKey(String pool, String caller) {
+    }
+
+    private static final class Usage {
+        final LongAdder acquisitions = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder longHolds = new LongAdder();
+        final LongAdder waitNanos = new LongAdder();
+        final LongAdder holdNanos = new LongAdder();
+        final LongAdder idleNanos = new LongAdder();
+        final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0);
+        final LongAccumulator maxIdleNanos = new LongAccumulator(Math::max, 0);
+        final Timer waitTimer;
+        final Timer holdTimer;
+        final Timer idleTimer;
+        final Counter timeoutCounter;
+        final Counter longHoldCounter;
+
+        Usage(UsageKey key, MeterRegistry meterRegistry) {
+            this.waitTimer = Timer.builder("products.pool.wait")
+                    .tag("pool", key.pool()).tag("caller", key.caller())
+                    .description("Time spent waiting for a pooled connection")
+                    .register(meterRegistry);
+            this.holdTimer = Timer.builder("products.pool.hold")
+                    .tag("pool", key.pool()).tag("caller", key.caller())
+                    .description("Time a connection was held before being returned")
+                    .register(meterRegistry);
+            this.idleTimer = Timer.builder("products.pool.idle-in-transaction")
+                    .tag("pool", key.pool()).tag("caller", key.caller())
+                    .description("Part of the hold with no statement executing")
+                    .register(meterRegistry);
+            this.timeoutCounter = Counter.builder("products.pool.timeouts")
+                    .tag("pool", key.pool()).tag("caller", key.caller())
+                    .description("Acquires that failed, usually on connection-timeout")
+                    .register(meterRegistry);
+            this.longHoldCounter = Counter.builder("products.pool.long-holds")
+                    .tag("pool", key.pool()).tag("caller", key.caller())
+                    .register(meterRegistry);
+        }
+    }
+
+    private final PoolProfilerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final String attributionPrefix;
+    private final Map<String, HikariDataSource> pools = new ConcurrentHashMap<>();
+    private final Map<Long, ConnectionLease> leases = new ConcurrentHashMap<>();
+    private final Map<UsageKey, Usage> usage = new ConcurrentHashMap<>();
+    private final Deque<PoolReport.LongHold> recentLongHolds = new ArrayDeque<>();
+    private final AtomicLong leaseIds = new AtomicLong();
+    private final ScheduledExecutorService scanner;
+
+    public PoolProfiler(PoolProfilerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.attributionPrefix = properties.getAttributionPackage() + ".";
+        this.scanner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-profiler-scan");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (properties.isEnabled()) {
+            long interval = properties.getScanInterval().toMillis();
+            scanner.scheduleWithFixedDelay(this::scan, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Returns {@code pool} wrapped for profiling, or unchanged when profiling is off. */
+    public DataSource instrument(HikariDataSource pool) {
+        if (!properties.isEnabled()) {
+            return pool;
+        }
+        String name = pool.getPoolName() != null ? pool.getPoolName() : "pool-" + pools.size();
+        if (pools.putIfAbsent(name, pool) == null) {
+            Gauge.builder("products.pool.leases", leases,
+                            map -> map.values().stream().filter(lease -> lease.pool.equals(name)).count())
+                    .tag("pool", name)
+                    .description("Connections currently handed out, as seen by the profiler")
+                    .register(meterRegistry);
+        }
+        return new ProfiledDataSource(pool, name, this);
+    }
+
+    ConnectionLease acquired(String pool, long acquiredNanos, long waitNanos) {
+        StackTraceElement[] acquireStack = properties.isCaptureAcquireStack()
+                ? trim(new Throwable().getStackTrace())
+                : null;
+        ConnectionLease lease = new ConnectionLease(leaseIds.incrementAndGet(), pool, caller(),
+                Thread.currentThread(), acquiredNanos, waitNanos, acquireStack);
+        leases.put(lease.id, lease);
+
+        Usage stats = usage(pool, lease.caller);
+        stats.acquisitions.increment();
+        stats.waitNanos.add(waitNanos);
+        stats.maxWaitNanos.accumulate(waitNanos);
+        stats.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        return lease;
+    }
+
+    void acquireFailed(String pool, long waitNanos) {
+        Usage stats = usage(pool, caller());
+        stats.timeouts.increment();
+        stats.timeoutCounter.increment();
+        stats.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void released(ConnectionLease lease) {
+        leases.remove(lease.id);
+        long now = System.nanoTime();
+        long held = lease.heldNanos(now);
+        long idle = lease.idleNanos(now);
+
+        Usage stats = usage(lease.pool, lease.caller);
+        stats.holdNanos.add(held);
+        stats.maxHoldNanos.accumulate(held);
+        stats.idleNanos.add(idle);
+        stats.maxIdleNanos.accumulate(idle);
+        stats.holdTimer.record(held, TimeUnit.NANOSECONDS);
+        stats.idleTimer.record(idle, TimeUnit.NANOSECONDS);
+        if (lease.leakReported) {
+            log.info("Connection from {} taken by {} was returned after {} ms", lease.pool, lease.caller, millis(held));
+        }
+    }
+
+    void scan() {
+        long now = System.nanoTime();
+        long longHold = properties.getLongHoldThreshold().toNanos();
+        long leak = properties.getLeakThreshold().toNanos();
+        for (ConnectionLease lease : leases.values()) {
+            long held = lease.heldNanos(now);
+            if (held >= leak && !lease.leakReported) {
+                lease.leakReported = true;
+                PoolReport.LongHold report = report(lease, now, true);
+                log.warn("Probable connection leak: {} connection taken by {} on {} held for {} ms ({} ms idle){}",
+                        lease.pool, lease.caller, report.thread(), millis(held), report.idleMs(),
+                        report.acquireStack() != null ? ", acquired at " + report.acquireStack() : "");
+            } else if (held >= longHold && !lease.longHoldReported) {
+                lease.longHoldReported = true;
+                usage(lease.pool, lease.caller).longHolds.increment();
+                usage(lease.pool, lease.caller).longHoldCounter.increment();
+                PoolReport.LongHold report = report(lease, now, false);
+                log.warn("Long connection hold: {} connection taken by {} on {} held for {} ms ({} ms idle), now at {}",
+                        lease.pool, lease.caller, report.thread(), millis(held), report.idleMs(),
+                        report.stack().isEmpty() ? "?" : report.stack().get(0));
+            }
+        }
+    }
+
+    public PoolReport report() {
+        long now = System.nanoTime();
+        List<PoolReport.PoolState> poolStates = new ArrayList<>();
+        pools.forEach((name, pool) -> {
+            List<PoolReport.Holder> holders = leases.values().stream()
+                    .filter(lease -> lease.pool.equals(name))
+                    .sorted(Comparator.comparingLong(lease -> lease.acquiredNanos))
+                    .map(lease -> new PoolReport.Holder(lease.id, lease.caller, lease.thread.getName(),
+                            lease.acquiredAt, millis(lease.heldNanos(now)), millis(lease.idleNanos(now)),
+                            lease.isExecuting(), format(lease.acquireStack)))
+                    .toList();
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            poolStates.add(mxBean == null
+                    ? new PoolReport.PoolState(name, null, null, null, pool.getMaximumPoolSize(), holders)
+                    : new PoolReport.PoolState(name, mxBean.getActiveConnections(), mxBean.getIdleConnections(),
+                    mxBean.getThreadsAwaitingConnection(), pool.getMaximumPoolSize(), holders));
+        });
+
+        List<PoolReport.CallerUsage> callers = usage.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<UsageKey, Usage> entry) -> entry.getValue().holdNanos.sum())
+                        .reversed())
+                .map(entry -> callerUsage(entry.getKey(), entry.getValue()))
+                .toList();
+
+        List<PoolReport.LongHold> longHolds;
+        synchronized (recentLongHolds) {
+            longHolds = new ArrayList<>(recentLongHolds);
+        }
+        return new PoolReport(poolStates, callers, longHolds);
+    }
+
+    private static PoolReport.CallerUsage callerUsage(UsageKey key, Usage stats) {
+        long acquisitions = Math.max(1, stats.acquisitions.sum());
+        return new PoolReport.CallerUsage(key.pool(), key.caller(), stats.acquisitions.sum(),
+                stats.timeouts.sum(), stats.longHolds.sum(), millis(stats.holdNanos.sum()),
+                millis(stats.waitNanos.sum() / acquisitions), millis(stats.maxWaitNanos.get()),
+                millis(stats.holdNanos.sum() / acquisitions), millis(stats.maxHoldNanos.get()),
+                millis(stats.idleNanos.sum() / acquisitions), millis(stats.maxIdleNanos.get()));
+    }
+
+    private PoolReport.LongHold report(ConnectionLease lease, long now, boolean leak) {
+        PoolReport.LongHold report = new PoolReport.LongHold(lease.pool, lease.caller, lease.thread.getName(),
+                lease.thread.isAlive(), leak, lease.acquiredAt, Instant.now(),
+                millis(lease.heldNanos(now)), millis(lease.idleNanos(now)),
+                format(trim(lease.thread.getStackTrace())), format(lease.acquireStack));
+        synchronized (recentLongHolds) {
+            if (recentLongHolds.size() >= properties.getRecentLongHolds()) {
+                recentLongHolds.removeFirst();
+            }
+            recentLongHolds.addLast(report);
+        }
+        return report;
+    }
+
+    private Usage usage(String pool, String caller) {
+        return usage.computeIfAbsent(new UsageKey(pool, caller), key -> new Usage(key, meterRegistry));
+    }
+
+    /**
+     * A transaction that is already open names its method, which saves the
+     * stack walk; the JPA transaction manager only sets the name after it has
+     * taken the connection, so the walk is the common path.
+     */
+    private String caller() {
+        String transaction = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transaction != null && transaction.startsWith(attributionPrefix)) {
+            return shorten(transaction);
+        }
+        return WALKER.walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(transaction != null ? shorten(transaction) : "unknown"));
+    }
+
+    private boolean isApplicationFrame(String className) {
+        return className.startsWith(attributionPrefix)
+                && !className.startsWith(OWN_PACKAGE)
+                && !className.startsWith(DATASOURCE_PACKAGE);
+    }
+
+    /** {@code com.x.ProductServiceImpl.getProductById} to {@code ProductServiceImpl.getProductById}. */
+    private static String shorten(String qualifiedMethod) {
+        int method = qualifiedMethod.lastIndexOf('.');
+        if (method < 0) {
+            return qualifiedMethod;
+        }
+        return simpleName(qualifiedMethod.substring(0, method)) + qualifiedMethod.substring(method);
+    }
+
+    /** Drops the package and any CGLIB proxy suffix. */
+    private static String simpleName(String className) {
+        String simple = className.substring(className.lastIndexOf('.') + 1);
+        int proxy = simple.indexOf("$$");
+        return proxy > 0 ? simple.substring(0, proxy) : simple;
+    }
+
+    private StackTraceElement[] trim(StackTraceElement[] stack) {
+        return stack.length <= properties.getStackDepth() ? stack : Arrays.copyOf(stack, properties.getStackDepth());
+    }
+
+    private static List<String> format(StackTraceElement[] stack) {
+        return stack == null ? null : Arrays.stream(stack).map(StackTraceElement::toString).toList();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scanner.shutdownNow();
+    }
+}
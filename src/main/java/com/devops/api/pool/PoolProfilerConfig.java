@@ -0,0 +1,29 @@
+package com.devops.api.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PoolProfilerConfig {
+
+    /**
+     * Wraps the auto-configured Hikari {@code dataSource}. With the read replica
+     * enabled that bean is the routing proxy instead, and
+     * {@code ReadReplicaDataSourceConfig} instruments both pools itself.
+     */
+    @Bean
+    public static BeanPostProcessor poolProfilingDataSource(ObjectProvider<PoolProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof HikariDataSource pool) {
+                    return profiler.getObject().instrument(pool);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.devops.api.pool;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.pool-profiler")
+public class PoolProfilerProperties {
+
+    private boolean enabled = true;
+
+    /** A connection held longer than this is logged once with the holder's current stack. */
+    private Duration longHoldThreshold = Duration.ofSeconds(2);
+
+    /** A connection held longer than this is reported as a probable leak. */
+    private Duration leakThreshold = Duration.ofSeconds(60);
+
+    /** How often held connections are checked against the thresholds. */
+    private Duration scanInterval = Duration.ofSeconds(1);
+
+    /**
+     * Record the stack at every acquire so leak reports show where the
+     * connection was taken. Costs a stack capture per connection; off by default.
+     */
+    private boolean captureAcquireStack = false;
+
+    /** Frames kept per stack snapshot. */
+    private int stackDepth = 30;
+
+    /** Long-hold reports kept for the actuator view. */
+    private int recentLongHolds = 50;
+
+    /** Acquires are attributed to the innermost frame in this package (the calling service method). */
+    private String attributionPackage = "com.devops.api";
+}
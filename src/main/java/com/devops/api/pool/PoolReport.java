@@ -0,0 +1,39 @@
+package com.devops.api.pool;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The {@code /actuator/pool} view. Times are milliseconds. {@code callers} is
+ * ordered by total hold time, so the methods that tie up the pool most come first.
+ */
+public record PoolReport(List<PoolState> pools, List<CallerUsage> callers, List<LongHold> recentLongHolds) {
+
+    /** Pool gauges come from Hikari and are null until the pool has started. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record PoolState(String pool, Integer active, Integer idle, Integer pending, Integer max,
+                            List<Holder> holders) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Holder(long lease, String caller, String thread, Instant acquiredAt, double heldMs,
+                         double idleMs, boolean executing, List<String> acquireStack) {
+    }
+
+    public record CallerUsage(String pool, String caller, long acquisitions, long timeouts, long longHolds,
+                              double totalHoldMs, double avgWaitMs, double maxWaitMs, double avgHoldMs,
+                              double maxHoldMs, double avgIdleMs, double maxIdleMs) {
+    }
+
+    /**
+     * {@code stack} is the holder thread's stack when the threshold was crossed,
+     * i.e. what it was doing instead of releasing the connection.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record LongHold(String pool, String caller, String thread, boolean threadAlive, boolean leak,
+                           Instant acquiredAt, Instant detectedAt, double heldMs, double idleMs,
+                           List<String> stack, List<String> acquireStack) {
+    }
+}
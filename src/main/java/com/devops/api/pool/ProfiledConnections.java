@@ -0,0 +1,113 @@
+package com.devops.api.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JDK proxies over {@link Connection} and the statements it creates. The
+ * connection proxy ends the lease on {@code close()}; statement proxies time
+ * each {@code execute*} call. Everything else passes straight through.
+ */
+final class ProfiledConnections {
+
+    private ProfiledConnections() {
+    }
+
+    static Connection wrap(Connection target, ConnectionLease lease, PoolProfiler profiler) {
+        return (Connection) Proxy.newProxyInstance(ProfiledConnections.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(target, lease, profiler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final ConnectionLease lease;
+        private final PoolProfiler profiler;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        ConnectionHandler(Connection target, ConnectionLease lease, PoolProfiler profiler) {
+            this.target = target;
+            this.lease = lease;
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    try {
+                        return ProfiledConnections.invoke(target, method, args);
+                    } finally {
+                        if (closed.compareAndSet(false, true)) {
+                            profiler.released(lease);
+                        }
+                    }
+                }
+                case "createStatement", "prepareStatement", "prepareCall" -> {
+                    Statement statement = (Statement) ProfiledConnections.invoke(target, method, args);
+                    return Proxy.newProxyInstance(ProfiledConnections.class.getClassLoader(),
+                            new Class<?>[] {method.getReturnType()},
+                            new StatementHandler(statement, (Connection) proxy, lease));
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Profiled[" + target + "]";
+                }
+                default -> {
+                    return ProfiledConnections.invoke(target, method, args);
+                }
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final ConnectionLease lease;
+
+        StatementHandler(Statement target, Connection connection, ConnectionLease lease) {
+            this.target = target;
+            this.connection = connection;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                lease.statementStarted(System.nanoTime());
+                try {
+                    return ProfiledConnections.invoke(target, method, args);
+                } finally {
+                    lease.statementFinished(System.nanoTime());
+                }
+            }
+            return switch (name) {
+                case "getConnection" -> connection;
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Profiled[" + target + "]";
+                default -> ProfiledConnections.invoke(target, method, args);
+            };
+        }
+    }
+}
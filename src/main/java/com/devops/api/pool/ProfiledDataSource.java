@@ -0,0 +1,52 @@
+package com.devops.api.pool;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Wraps a pool so every physical connection is a lease in {@link PoolProfiler}.
+ * {@code unwrap} still reaches the pool, so Hikari metrics and health checks
+ * keep working.
+ */
+class ProfiledDataSource extends DelegatingDataSource {
+
+    private final String poolName;
+    private final PoolProfiler profiler;
+
+    ProfiledDataSource(DataSource pool, String poolName, PoolProfiler profiler) {
+        super(pool);
+        this.poolName = poolName;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = super.getConnection();
+        } catch (SQLException ex) {
+            profiler.acquireFailed(poolName, System.nanoTime() - start);
+            throw ex;
+        }
+        long acquired = System.nanoTime();
+        return ProfiledConnections.wrap(connection, profiler.acquired(poolName, acquired, acquired - start), profiler);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = super.getConnection(username, password);
+        } catch (SQLException ex) {
+            profiler.acquireFailed(poolName, System.nanoTime() - start);
+            throw ex;
+        }
+        long acquired = System.nanoTime();
+        return ProfiledConnections.wrap(connection, profiler.acquired(poolName, acquired, acquired - start), profiler);
+    }
+}
@@ -0,0 +1,30 @@
+package com.devops.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans one MVC handler invocation. Allocation samples taken on the same
+ * thread inside the span are charged to {@link #handler} by the report.
+ */
+@Name(EndpointEvent.NAME)
+@Label("API Endpoint")
+@Category({"Products API", "Web"})
+@Description("A Spring MVC handler invocation")
+@StackTrace(false)
+class EndpointEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.devops.api.Endpoint";
+
+    @Label("Handler")
+    String handler;
+
+    @Label("HTTP Method")
+    String method;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,42 @@
+package com.devops.api.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Emits an {@link EndpointEvent} around each controller handler. Outside a
+ * recording the event is disabled and this costs one flag check.
+ */
+class EndpointEventInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = EndpointEventInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        EndpointEvent event = new EndpointEvent();
+        if (!event.isEnabled()) {
+            return true;
+        }
+        event.handler = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        event.method = request.getMethod();
+        event.begin();
+        request.setAttribute(EVENT_ATTRIBUTE, event);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) instanceof EndpointEvent event) {
+            request.removeAttribute(EVENT_ATTRIBUTE);
+            event.end();
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.devops.api.profiling;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reduces a .jfr file to a {@link ProfilingReport} in one pass over its events.
+ *
+ * JFR has no notion of a request, so allocation is attributed afterwards: each
+ * {@code jdk.ObjectAllocationSample} is charged to the {@link EndpointEvent}
+ * that was open on the same thread at the sample's timestamp.
+ */
+final class JfrReportBuilder {
+
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    private static final String THREAD_PARK = "jdk.ThreadPark";
+    private static final String SOCKET_READ = "jdk.SocketRead";
+    private static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+
+    private record Span(long start, long end, Stats stats) {
+    }
+
+    private record Sample(long time, long weight) {
+    }
+
+    private static final class Stats {
+        long count;
+        long totalNanos;
+        long maxNanos;
+        long bytes;
+
+        void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+    }
+
+    private final int topN;
+    private Instant start = Instant.MAX;
+    private Instant end = Instant.MIN;
+    private final Map<String, Stats> endpoints = new HashMap<>();
+    private final Map<Long, List<Span>> spansByThread = new HashMap<>();
+    private final Map<Long, List<Sample>> samplesByThread = new HashMap<>();
+    private final Map<String, Stats> lockSites = new HashMap<>();
+    private final Map<String, String> lockClasses = new HashMap<>();
+    private final Map<String, Stats> queries = new HashMap<>();
+    private final Stats socketReads = new Stats();
+    private final Stats gcPauses = new Stats();
+
+    private JfrReportBuilder(int topN) {
+        this.topN = topN;
+    }
+
+    static ProfilingReport summarize(Path file, int topN) throws IOException {
+        JfrReportBuilder builder = new JfrReportBuilder(topN);
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                builder.accept(recording.readEvent());
+            }
+        }
+        return builder.build();
+    }
+
+    private void accept(RecordedEvent event) {
+        if (event.getStartTime().isBefore(start)) {
+            start = event.getStartTime();
+        }
+        if (event.getEndTime().isAfter(end)) {
+            end = event.getEndTime();
+        }
+        switch (event.getEventType().getName()) {
+            case EndpointEvent.NAME -> endpoint(event);
+            case RepositoryQueryEvent.NAME -> queries
+                    .computeIfAbsent(event.getString("repository") + "." + event.getString("method"), key -> new Stats())
+                    .add(event.getDuration());
+            case ALLOCATION_SAMPLE -> allocation(event);
+            case MONITOR_ENTER -> lock(event, event.getClass("monitorClass"));
+            case THREAD_PARK -> park(event);
+            case SOCKET_READ -> socketReads.add(event.getDuration());
+            case GARBAGE_COLLECTION -> gcPauses.add(event.getDuration("sumOfPauses"));
+            default -> {
+            }
+        }
+    }
+
+    private void endpoint(RecordedEvent event) {
+        Stats stats = endpoints.computeIfAbsent(event.getString("handler"), key -> new Stats());
+        stats.add(event.getDuration());
+        RecordedThread thread = event.getThread();
+        if (thread != null) {
+            spansByThread.computeIfAbsent(thread.getId(), key -> new ArrayList<>())
+                    .add(new Span(nanos(event.getStartTime()), nanos(event.getEndTime()), stats));
+        }
+    }
+
+    private void allocation(RecordedEvent event) {
+        RecordedThread thread = event.getThread("eventThread");
+        if (thread != null) {
+            samplesByThread.computeIfAbsent(thread.getId(), key -> new ArrayList<>())
+                    .add(new Sample(nanos(event.getStartTime()), event.getLong("weight")));
+        }
+    }
+
+    /**
+     * Only parks on a lock's synchronizer count; parks on a condition or in a
+     * pool's work queue are idle threads waiting for something to do.
+     */
+    private void park(RecordedEvent event) {
+        RecordedClass parkedClass = event.getClass("parkedClass");
+        if (parkedClass != null && parkedClass.getName().endsWith("Sync")) {
+            lock(event, parkedClass);
+        }
+    }
+
+    private void lock(RecordedEvent event, RecordedClass lockClass) {
+        String site = applicationFrame(event.getStackTrace());
+        lockSites.computeIfAbsent(site, key -> new Stats()).add(event.getDuration());
+        if (lockClass != null) {
+            lockClasses.putIfAbsent(site, lockClass.getName());
+        }
+    }
+
+    private ProfilingReport build() {
+        attributeAllocations();
+
+        List<ProfilingReport.EndpointStats> topEndpoints = top(endpoints, stats -> stats.bytes,
+                (handler, stats) -> new ProfilingReport.EndpointStats(handler, stats.count, stats.bytes,
+                        millis(stats.totalNanos), millis(stats.maxNanos)));
+        List<ProfilingReport.LockSite> topLocks = top(lockSites, stats -> stats.totalNanos,
+                (site, stats) -> new ProfilingReport.LockSite(site, lockClasses.get(site), stats.count,
+                        millis(stats.totalNanos), millis(stats.maxNanos)));
+        List<ProfilingReport.QueryStats> topQueries = top(queries, stats -> stats.totalNanos,
+                (query, stats) -> new ProfilingReport.QueryStats(query, stats.count,
+                        millis(stats.totalNanos), millis(stats.maxNanos)));
+        long repositoryNanos = queries.values().stream().mapToLong(stats -> stats.totalNanos).sum();
+
+        boolean empty = start.isAfter(end);
+        return new ProfilingReport(
+                empty ? null : start,
+                empty ? null : end,
+                topEndpoints,
+                topLocks,
+                new ProfilingReport.JdbcStats(topQueries, millis(repositoryNanos),
+                        socketReads.count, millis(socketReads.totalNanos)),
+                new ProfilingReport.GcStats(gcPauses.count, millis(gcPauses.totalNanos), millis(gcPauses.maxNanos)));
+    }
+
+    private void attributeAllocations() {
+        samplesByThread.forEach((threadId, samples) -> {
+            List<Span> spans = spansByThread.get(threadId);
+            if (spans == null) {
+                return;
+            }
+            spans.sort(Comparator.comparingLong(Span::start));
+            for (Sample sample : samples) {
+                Span span = enclosing(spans, sample.time());
+                if (span != null) {
+                    span.stats().bytes += sample.weight();
+                }
+            }
+        });
+    }
+
+    /** Spans on one thread don't overlap, so the last one starting at or before {@code time} is the only candidate. */
+    private static Span enclosing(List<Span> spans, long time) {
+        int low = 0;
+        int high = spans.size() - 1;
+        Span candidate = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Span span = spans.get(mid);
+            if (span.start() <= time) {
+                candidate = span;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate != null && time <= candidate.end() ? candidate : null;
+    }
+
+    private <T> List<T> top(Map<String, Stats> stats, ToLongFunction<Stats> weight, BiFunction<String, Stats, T> row) {
+        return stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> weight.applyAsLong(entry.getValue()))
+                        .reversed())
+                .limit(topN)
+                .map(entry -> row.apply(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private static String applicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
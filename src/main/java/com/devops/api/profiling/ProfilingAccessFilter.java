@@ -0,0 +1,59 @@
+package com.devops.api.profiling;
+
+import com.devops.api.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Requires {@code Authorization: Bearer <app.profiling.token>} on the profiling
+ * and pool endpoints. The service has no user authentication, and both expose
+ * stack traces and class names, so with no token configured nobody gets in.
+ */
+class ProfilingAccessFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] token;
+    private final ObjectMapper objectMapper;
+
+    ProfilingAccessFilter(String token, ObjectMapper objectMapper) {
+        this.token = token == null ? new byte[0] : token.getBytes(StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        if (token.length == 0) {
+            reject(response, HttpStatus.FORBIDDEN, "Diagnostics are disabled; set app.profiling.token to enable them");
+            return;
+        }
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        byte[] presented = header != null && header.startsWith(BEARER)
+                ? header.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+        if (!MessageDigest.isEqual(token, presented)) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            reject(response, HttpStatus.UNAUTHORIZED, "A valid profiling token is required");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+}
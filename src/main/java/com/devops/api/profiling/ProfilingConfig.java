@@ -0,0 +1,44 @@
+package com.devops.api.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+public class ProfilingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ProfilingAccessFilter> profilingAccessFilter(ProfilingProperties properties,
+                                                                                ObjectMapper objectMapper) {
+        FilterRegistrationBean<ProfilingAccessFilter> registration = new FilterRegistrationBean<>(
+                new ProfilingAccessFilter(properties.getToken(), objectMapper));
+        // The pool view exposes stacks and thread names too
+        registration.addUrlPatterns("/actuator/profiling", "/actuator/profiling/*", "/actuator/pool");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Adds {@link RepositoryQueryInterceptor} to every Spring Data repository
+     * proxy. Static so it is registered before the repository factory beans
+     * are initialized.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryQueryEvents() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositoryQueryInterceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.devops.api.profiling;
+
+import com.devops.api.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code /actuator/profiling}: start a time-boxed JFR recording, poll it for
+ * the JSON report, download the raw .jfr file. Access is guarded by
+ * {@link ProfilingAccessFilter}.
+ *
+ * <pre>
+ * POST   /actuator/profiling          {"duration": "60s"}   start (201, 409 if one is running)
+ * GET    /actuator/profiling                                list recordings
+ * GET    /actuator/profiling/{id}                           status, plus the report once finished
+ * GET    /actuator/profiling/{id}/jfr                       raw recording
+ * DELETE /actuator/profiling/{id}                           stop early
+ * </pre>
+ */
+@Component
+@WebEndpoint(id = "profiling")
+@RequiredArgsConstructor
+public class ProfilingEndpoint {
+
+    private static final String JFR_FORMAT = "jfr";
+
+    private final ProfilingRecorder recorder;
+
+    @ReadOperation
+    public List<RecordingStatus> recordings() {
+        return recorder.list();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable Duration duration) {
+        try {
+            return new WebEndpointResponse<>(recorder.start(duration), HttpStatus.CREATED.value());
+        } catch (IllegalArgumentException ex) {
+            return new WebEndpointResponse<>(ApiResponse.error(ex.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return new WebEndpointResponse<>(ApiResponse.error(ex.getMessage()), HttpStatus.CONFLICT.value());
+        }
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<RecordingStatus> recording(@Selector long id) {
+        return recorder.get(id)
+                .map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id, @Selector String format) {
+        if (!JFR_FORMAT.equals(format)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return recorder.file(id)
+                .<WebEndpointResponse<Resource>>map(file -> new WebEndpointResponse<>(new FileSystemResource(file)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<RecordingStatus> stop(@Selector long id) {
+        return recorder.stop(id)
+                .map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+}
@@ -0,0 +1,43 @@
+package com.devops.api.profiling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.profiling")
+public class ProfilingProperties {
+
+    /**
+     * Bearer token required on {@code /actuator/profiling}. While blank the
+     * endpoint answers 403 to everyone.
+     */
+    private String token = "";
+
+    /** Recording length when the request doesn't specify one. */
+    private Duration defaultDuration = Duration.ofSeconds(30);
+
+    /** Longest recording a caller may ask for. */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /** JFR settings the recording starts from: {@code default} (~1% overhead) or {@code profile}. */
+    private String settings = "default";
+
+    /** Monitor-enter and lock-park events shorter than this are not recorded. */
+    private Duration lockThreshold = Duration.ofMillis(10);
+
+    /** Socket reads shorter than this are not recorded; they feed the JDBC wait figure. */
+    private Duration socketReadThreshold = Duration.ofMillis(5);
+
+    /** Where finished .jfr files are written. */
+    private String directory = System.getProperty("java.io.tmpdir") + "/products-jfr";
+
+    /** Finished recordings kept on disk; the oldest is deleted when a new one starts. */
+    private int retainedRecordings = 5;
+
+    /** Entries per section of the JSON report. */
+    private int reportTopN = 10;
+}
@@ -0,0 +1,196 @@
+package com.devops.api.profiling;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Runs time-boxed JFR recordings on demand, one at a time, and turns each
+ * finished recording into a {@link ProfilingReport}.
+ *
+ * JFR stops the recording and writes the .jfr file itself when the duration
+ * elapses, so a caller that disappears can't leave a recording running. The
+ * report is built on first request and kept with the session.
+ */
+@Component
+@Slf4j
+public class ProfilingRecorder {
+
+    private static final class Session {
+        final Recording recording;
+        final Path file;
+        final Instant startedAt;
+        final Duration duration;
+        ProfilingReport report;
+
+        Session(Recording recording, Path file, Instant startedAt, Duration duration) {
+            this.recording = recording;
+            this.file = file;
+            this.startedAt = startedAt;
+            this.duration = duration;
+        }
+
+        boolean isRunning() {
+            RecordingState state = recording.getState();
+            return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+        }
+    }
+
+    private final ProfilingProperties properties;
+    private final Map<Long, Session> sessions = new LinkedHashMap<>();
+
+    public ProfilingRecorder(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the duration is not positive or exceeds the configured maximum
+     * @throws IllegalStateException    if a recording is already running
+     */
+    public synchronized RecordingStatus start(Duration requested) {
+        Duration duration = requested != null ? requested : properties.getDefaultDuration();
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("Duration must be between 0 and " + properties.getMaxDuration());
+        }
+        for (Session session : sessions.values()) {
+            if (session.isRunning()) {
+                throw new IllegalStateException("Recording " + session.recording.getId() + " is still running");
+            }
+        }
+        evictFinished(properties.getRetainedRecordings() - 1);
+
+        Recording recording = new Recording(configuration());
+        try {
+            Path directory = Files.createDirectories(Path.of(properties.getDirectory()));
+            recording.setName("products-profiling");
+            recording.enable(EndpointEvent.class);
+            recording.enable(RepositoryQueryEvent.class);
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(properties.getLockThreshold()).withStackTrace();
+            recording.enable("jdk.ThreadPark").withThreshold(properties.getLockThreshold()).withStackTrace();
+            recording.enable("jdk.SocketRead").withThreshold(properties.getSocketReadThreshold());
+            recording.enable("jdk.ObjectAllocationSample");
+            recording.enable("jdk.GarbageCollection");
+            recording.setToDisk(true);
+            Path file = directory.resolve("products-" + recording.getId() + ".jfr");
+            recording.setDestination(file);
+            recording.setDuration(duration);
+            recording.start();
+
+            Session session = new Session(recording, file, Instant.now(), duration);
+            sessions.put(recording.getId(), session);
+            log.info("Started JFR recording {} for {} ({})", recording.getId(), duration, file);
+            return status(session);
+        } catch (IOException ex) {
+            recording.close();
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** Stops a running recording early; the file is written as if its duration had elapsed. */
+    public synchronized Optional<RecordingStatus> stop(long id) {
+        Session session = sessions.get(id);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (session.isRunning()) {
+            session.recording.stop();
+            log.info("Stopped JFR recording {} early", id);
+        }
+        return Optional.of(status(session));
+    }
+
+    public synchronized List<RecordingStatus> list() {
+        List<RecordingStatus> result = new ArrayList<>();
+        for (Session session : sessions.values()) {
+            result.add(new RecordingStatus(session.recording.getId(), state(session), session.startedAt,
+                    session.duration, fileSize(session), null));
+        }
+        return result;
+    }
+
+    public synchronized Optional<RecordingStatus> get(long id) {
+        return Optional.ofNullable(sessions.get(id)).map(this::status);
+    }
+
+    /** The .jfr file of a finished recording. */
+    public synchronized Optional<Path> file(long id) {
+        Session session = sessions.get(id);
+        if (session == null || session.isRunning() || !Files.exists(session.file)) {
+            return Optional.empty();
+        }
+        return Optional.of(session.file);
+    }
+
+    private RecordingStatus status(Session session) {
+        RecordingStatus.State state = state(session);
+        if (state == RecordingStatus.State.FINISHED && session.report == null && Files.exists(session.file)) {
+            // Release JFR's on-disk chunks; the destination file is all we need from here on
+            session.recording.close();
+            try {
+                session.report = JfrReportBuilder.summarize(session.file, properties.getReportTopN());
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not read " + session.file, ex);
+            }
+        }
+        return new RecordingStatus(session.recording.getId(), state, session.startedAt, session.duration,
+                fileSize(session), session.report);
+    }
+
+    private static RecordingStatus.State state(Session session) {
+        return session.isRunning() ? RecordingStatus.State.RUNNING : RecordingStatus.State.FINISHED;
+    }
+
+    private static Long fileSize(Session session) {
+        try {
+            return session.isRunning() || !Files.exists(session.file) ? null : Files.size(session.file);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private Configuration configuration() {
+        try {
+            return Configuration.getConfiguration(properties.getSettings());
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Unknown JFR settings: " + properties.getSettings(), ex);
+        }
+    }
+
+    private void evictFinished(int keep) {
+        Iterator<Session> iterator = sessions.values().iterator();
+        int excess = sessions.size() - Math.max(0, keep);
+        while (excess > 0 && iterator.hasNext()) {
+            Session session = iterator.next();
+            iterator.remove();
+            excess--;
+            session.recording.close();
+            try {
+                Files.deleteIfExists(session.file);
+            } catch (IOException ex) {
+                log.warn("Could not delete old recording {}: {}", session.file, ex.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        sessions.values().forEach(session -> session.recording.close());
+    }
+}
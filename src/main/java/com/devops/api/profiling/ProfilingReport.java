@@ -0,0 +1,42 @@
+package com.devops.api.profiling;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Summary of one finished recording. Times are milliseconds; each list holds
+ * at most {@code app.profiling.report-top-n} entries, largest first.
+ */
+public record ProfilingReport(
+        Instant start,
+        Instant end,
+        List<EndpointStats> topAllocatingEndpoints,
+        List<LockSite> lockContention,
+        JdbcStats jdbc,
+        GcStats gc) {
+
+    /**
+     * {@code allocatedBytes} is extrapolated from JFR's allocation samples taken
+     * on the handler's thread while it ran, so it is an estimate.
+     */
+    public record EndpointStats(String handler, long requests, long allocatedBytes, double totalMs, double maxMs) {
+    }
+
+    /** {@code site} is the first application frame of the blocked thread. */
+    public record LockSite(String site, String lockClass, long events, double totalMs, double maxMs) {
+    }
+
+    public record QueryStats(String query, long calls, double totalMs, double maxMs) {
+    }
+
+    /**
+     * {@code repositoryMs} is wall time inside repository calls. {@code socketReadMs}
+     * is time blocked in socket reads over the recording threshold, which for this
+     * service is almost entirely the database.
+     */
+    public record JdbcStats(List<QueryStats> topQueries, double repositoryMs, long socketReads, double socketReadMs) {
+    }
+
+    public record GcStats(long collections, double totalPauseMs, double longestPauseMs) {
+    }
+}
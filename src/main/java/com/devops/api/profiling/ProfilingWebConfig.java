@@ -0,0 +1,15 @@
+package com.devops.api.profiling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** Kept apart from {@link ProfilingConfig} so MVC test slices pick up the interceptor alone. */
+@Configuration
+public class ProfilingWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointEventInterceptor());
+    }
+}
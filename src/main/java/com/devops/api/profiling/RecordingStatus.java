@@ -0,0 +1,22 @@
+package com.devops.api.profiling;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/** {@code report} is only present once the recording has finished. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RecordingStatus(
+        long id,
+        State state,
+        Instant startedAt,
+        Duration duration,
+        Long fileBytes,
+        ProfilingReport report) {
+
+    public enum State {
+        RUNNING,
+        FINISHED
+    }
+}
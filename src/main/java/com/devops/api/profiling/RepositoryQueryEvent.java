@@ -0,0 +1,23 @@
+package com.devops.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(RepositoryQueryEvent.NAME)
+@Label("Repository Query")
+@Category({"Products API", "Persistence"})
+@Description("A Spring Data repository call, including connection acquisition and JDBC round trips")
+@StackTrace(false)
+class RepositoryQueryEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.devops.api.RepositoryQuery";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+}
@@ -0,0 +1,30 @@
+package com.devops.api.profiling;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/** Emits a {@link RepositoryQueryEvent} around each call on a repository proxy. */
+class RepositoryQueryInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    RepositoryQueryInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.repository = repository;
+        event.method = invocation.getMethod().getName();
+        event.begin();
+        try {
+            return invocation.proceed();
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.devops.api.ranking;
+
+import com.devops.api.event.ProductSnapshot;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+
+/**
+ * Product attributes that can be ranked. Each carries its column name, so the
+ * windowed query only ever interpolates one of these, and the direction its
+ * "top" usually means: cheapest first, most stocked first, newest first.
+ */
+public enum RankField {
+
+    PRICE("price", "price", Sort.Direction.ASC,
+            Comparator.comparing(ProductSnapshot::price, Comparator.nullsLast(Comparator.naturalOrder()))),
+    QUANTITY("quantity", "quantity", Sort.Direction.DESC,
+            Comparator.comparing(ProductSnapshot::quantity, Comparator.nullsLast(Comparator.naturalOrder()))),
+    CREATED_AT("createdAt", "created_at", Sort.Direction.DESC,
+            Comparator.comparing(ProductSnapshot::createdAt, Comparator.nullsLast(Comparator.naturalOrder())));
+
+    private final String property;
+    private final String column;
+    private final Sort.Direction defaultDirection;
+    private final Comparator<ProductSnapshot> ascending;
+
+    RankField(String property, String column, Sort.Direction defaultDirection, Comparator<ProductSnapshot> byValue) {
+        this.property = property;
+        this.column = column;
+        this.defaultDirection = defaultDirection;
+        // Ties broken by id, so the index and the SQL agree on which rows make the cut
+        this.ascending = byValue.thenComparing(ProductSnapshot::id);
+    }
+
+    /** Entity property name, as used in the {@code by} parameter and in {@link Sort}. */
+    public String property() {
+        return property;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public Sort.Direction defaultDirection() {
+        return defaultDirection;
+    }
+
+    /** Ascending order on this field, then id. */
+    public Comparator<ProductSnapshot> ascending() {
+        return ascending;
+    }
+
+    /** @throws IllegalArgumentException for anything but price, quantity or createdAt */
+    public static RankField from(String value) {
+        for (RankField field : values()) {
+            if (field.property.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Cannot rank by '" + value + "'; use price, quantity or createdAt");
+    }
+}
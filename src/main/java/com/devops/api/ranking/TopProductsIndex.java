@@ -0,0 +1,122 @@
+package com.devops.api.ranking;
+
+import com.devops.api.catalog.CatalogListener;
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Products of each category kept sorted by every {@link RankField}, maintained
+ * from catalog index deltas.
+ *
+ * A top-K read walks the first K entries of each category's set, so it costs
+ * O(categories × K) whatever the catalog size; a write is O(log n) per field.
+ * An update is a remove followed by an add, so a concurrent read may briefly
+ * miss the product being updated.
+ */
+@Component
+public class TopProductsIndex implements CatalogListener {
+
+    private volatile Map<String, Ranking> rankings = new ConcurrentHashMap<>();
+
+    public TopProductsIndex(ProductCatalogIndex index, MeterRegistry meterRegistry) {
+        index.addListener(this);
+        Gauge.builder("products.top.categories", this, topProducts -> topProducts.rankings.size())
+                .description("Categories tracked by the top-products index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onChange(ProductSnapshot previous, ProductSnapshot current) {
+        if (previous != null) {
+            Ranking ranking = rankings.get(previous.category());
+            if (ranking != null) {
+                ranking.remove(previous);
+            }
+        }
+        if (current != null) {
+            rankings.computeIfAbsent(current.category(), key -> new Ranking()).add(current);
+        }
+    }
+
+    @Override
+    public void onReload(Collection<ProductSnapshot> products) {
+        Map<String, Ranking> rebuilt = new ConcurrentHashMap<>();
+        for (ProductSnapshot product : products) {
+            rebuilt.computeIfAbsent(product.category(), key -> new Ranking()).add(product);
+        }
+        rankings = rebuilt;
+    }
+
+    /** The first {@code n} products of every non-empty category, categories ordered by name. */
+    public Map<String, List<ProductSnapshot>> topPerCategory(RankField field, Sort.Direction direction, int n) {
+        Map<String, List<ProductSnapshot>> result = new TreeMap<>();
+        rankings.forEach((category, ranking) -> {
+            List<ProductSnapshot> top = first(ranking.ordered(field, direction), n);
+            if (!top.isEmpty()) {
+                result.put(category, top);
+            }
+        });
+        return result;
+    }
+
+    /** The first {@code n} products across all categories, merged from each category's own top {@code n}. */
+    public List<ProductSnapshot> top(RankField field, Sort.Direction direction, int n) {
+        List<ProductSnapshot> candidates = new ArrayList<>();
+        for (Ranking ranking : rankings.values()) {
+            candidates.addAll(first(ranking.ordered(field, direction), n));
+        }
+        candidates.sort(direction.isAscending() ? field.ascending() : field.ascending().reversed());
+        return candidates.size() > n ? new ArrayList<>(candidates.subList(0, n)) : candidates;
+    }
+
+    private static List<ProductSnapshot> first(NavigableSet<ProductSnapshot> ordered, int n) {
+        List<ProductSnapshot> top = new ArrayList<>(Math.min(n, 16));
+        Iterator<ProductSnapshot> iterator = ordered.iterator();
+        while (top.size() < n && iterator.hasNext()) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    /**
+     * One sorted set per field. Emptied categories are left in place rather
+     * than removed, which would race with a concurrent add; reloads drop them.
+     */
+    private static final class Ranking {
+        private final Map<RankField, ConcurrentSkipListSet<ProductSnapshot>> byField = new EnumMap<>(RankField.class);
+
+        Ranking() {
+            for (RankField field : RankField.values()) {
+                byField.put(field, new ConcurrentSkipListSet<>(field.ascending()));
+            }
+        }
+
+        void add(ProductSnapshot product) {
+            byField.values().forEach(set -> set.add(product));
+        }
+
+        void remove(ProductSnapshot product) {
+            byField.values().forEach(set -> set.remove(product));
+        }
+
+        NavigableSet<ProductSnapshot> ordered(RankField field, Sort.Direction direction) {
+            ConcurrentSkipListSet<ProductSnapshot> set = byField.get(field);
+            return direction.isAscending() ? set : set.descendingSet();
+        }
+    }
+}
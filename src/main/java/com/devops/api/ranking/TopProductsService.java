@@ -0,0 +1,75 @@
+package com.devops.api.ranking;
+
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves top-K reads from the {@link TopProductsIndex} once the catalog index
+ * is loaded, and from a single windowed query until then.
+ */
+@Service
+public class TopProductsService {
+
+    private final TopProductsIndex topProductsIndex;
+    private final ProductCatalogIndex catalogIndex;
+    private final ProductRepository productRepository;
+    private final Counter indexReads;
+    private final Counter databaseReads;
+
+    public TopProductsService(TopProductsIndex topProductsIndex, ProductCatalogIndex catalogIndex,
+                              ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.topProductsIndex = topProductsIndex;
+        this.catalogIndex = catalogIndex;
+        this.productRepository = productRepository;
+        this.indexReads = Counter.builder("products.top.queries")
+                .tag("source", "index")
+                .description("Top-K reads answered from the in-memory index")
+                .register(meterRegistry);
+        this.databaseReads = Counter.builder("products.top.queries")
+                .tag("source", "database")
+                .description("Top-K reads answered by the database before the index was loaded")
+                .register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, List<Product>> topPerCategory(RankField field, Sort.Direction direction, int n) {
+        Map<String, List<Product>> result = new LinkedHashMap<>();
+        if (catalogIndex.isLoaded()) {
+            indexReads.increment();
+            topProductsIndex.topPerCategory(field, direction, n).forEach((category, products) ->
+                    result.put(category, products.stream().map(ProductSnapshot::toProduct).toList()));
+        } else {
+            databaseReads.increment();
+            // Rows arrive ordered by category, then rank
+            for (Product product : productRepository.findTopPerCategory(field, direction, n)) {
+                result.computeIfAbsent(product.getCategory(), key -> new ArrayList<>()).add(product);
+            }
+        }
+        return result;
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Product> top(RankField field, Sort.Direction direction, int n) {
+        if (catalogIndex.isLoaded()) {
+            indexReads.increment();
+            return topProductsIndex.top(field, direction, n).stream().map(ProductSnapshot::toProduct).toList();
+        }
+        databaseReads.increment();
+        Sort sort = Sort.by(direction, field.property()).and(Sort.by(direction, "id"));
+        return productRepository.findAll(PageRequest.of(0, n, sort)).getContent();
+    }
+}
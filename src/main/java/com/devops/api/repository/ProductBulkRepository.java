@@ -0,0 +1,25 @@
+package com.devops.api.repository;
+
+import com.devops.api.bulk.ProductFilter;
+import com.devops.api.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Set-based statements over every product matching a {@link ProductFilter}. */
+public interface ProductBulkRepository {
+
+    long countMatching(ProductFilter filter);
+
+    /** Matching rows in id order, locked FOR UPDATE until the transaction ends; at most {@code limit}. */
+    List<Product> lockMatching(ProductFilter filter, int limit);
+
+    /** Multiplies every matching price by {@code factor}, rounded to cents; bumps version. */
+    int repriceMatching(ProductFilter filter, BigDecimal factor, LocalDateTime updatedAt);
+
+    /** Sets every matching quantity; bumps version. */
+    int restockMatching(ProductFilter filter, int quantity, LocalDateTime updatedAt);
+
+    int deleteMatching(ProductFilter filter);
+}
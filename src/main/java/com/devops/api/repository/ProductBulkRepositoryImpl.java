@@ -0,0 +1,113 @@
+package com.devops.api.repository;
+
+import com.devops.api.bulk.ProductFilter;
+import com.devops.api.model.Product;
+import com.devops.api.stock.StockThresholds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Builds the same WHERE clause for the count, lock, update and delete statements. */
+class ProductBulkRepositoryImpl implements ProductBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final StockThresholds thresholds;
+
+    ProductBulkRepositoryImpl(StockThresholds thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public long countMatching(ProductFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(cb.count(product)).where(matching(cb, product, filter));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<Product> lockMatching(ProductFilter filter, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> product = query.from(Product.class);
+        // Id order keeps concurrent bulk operations from locking in opposite orders
+        query.select(product).where(matching(cb, product, filter)).orderBy(cb.asc(product.get("id")));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int repriceMatching(ProductFilter filter, BigDecimal factor, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+        Root<Product> product = update.from(Product.class);
+        Path<BigDecimal> price = product.get("price");
+        update.set(price, cb.round(cb.prod(price, factor), 2));
+        return executeVersioned(cb, update, product, filter, updatedAt);
+    }
+
+    @Override
+    public int restockMatching(ProductFilter filter, int quantity, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+        Root<Product> product = update.from(Product.class);
+        update.set(product.<Integer>get("quantity"), quantity);
+        return executeVersioned(cb, update, product, filter, updatedAt);
+    }
+
+    @Override
+    public int deleteMatching(ProductFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Product> delete = cb.createCriteriaDelete(Product.class);
+        Root<Product> product = delete.from(Product.class);
+        delete.where(matching(cb, product, filter));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    private int executeVersioned(CriteriaBuilder cb, CriteriaUpdate<Product> update, Root<Product> product,
+                                 ProductFilter filter, LocalDateTime updatedAt) {
+        Path<Long> version = product.get("version");
+        update.set(product.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(version, cb.sum(version, 1L));
+        update.where(matching(cb, product, filter));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private Predicate[] matching(CriteriaBuilder cb, Root<Product> product, ProductFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.category() != null) {
+            predicates.add(cb.equal(product.get("category"), filter.category()));
+        }
+        Expression<BigDecimal> price = product.get("price");
+        if (filter.minPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(price, filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(price, filter.maxPrice()));
+        }
+        if (filter.stockStatus() != null) {
+            Expression<Integer> quantity = product.get("quantity");
+            predicates.add(cb.greaterThanOrEqualTo(quantity, thresholds.minQuantity(filter.stockStatus())));
+            predicates.add(cb.lessThanOrEqualTo(quantity, thresholds.maxQuantity(filter.stockStatus())));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
@@ -0,0 +1,26 @@
+package com.devops.api.repository;
+
+import com.devops.api.model.ProductChangeOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductChangeOutboxRepository extends JpaRepository<ProductChangeOutbox, Long> {
+
+    /**
+     * Oldest pending rows, locked until the transaction ends. Rows locked by
+     * another instance's writer are skipped rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM ProductChangeOutbox o ORDER BY o.id")
+    List<ProductChangeOutbox> lockPending(Pageable page);
+}
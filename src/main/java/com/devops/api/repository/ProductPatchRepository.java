@@ -0,0 +1,15 @@
+package com.devops.api.repository;
+
+import com.devops.api.dto.ProductPatchDTO;
+
+import java.time.LocalDateTime;
+
+public interface ProductPatchRepository {
+
+    /**
+     * Writes the non-null fields of {@code patch} in a single UPDATE that only
+     * matches while the row is still at {@code expectedVersion}, and bumps the
+     * version. Returns the number of rows changed, 0 if the version moved on.
+     */
+    int patch(Long id, long expectedVersion, ProductPatchDTO patch, LocalDateTime updatedAt);
+}
@@ -0,0 +1,49 @@
+package com.devops.api.repository;
+
+import com.devops.api.dto.ProductPatchDTO;
+import com.devops.api.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/** Criteria-built bulk UPDATE, so the statement lists only the columns being changed. */
+class ProductPatchRepositoryImpl implements ProductPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, long expectedVersion, ProductPatchDTO patch, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+        Root<Product> product = update.from(Product.class);
+
+        if (patch.getName() != null) {
+            update.set(product.<String>get("name"), patch.getName());
+        }
+        if (patch.getDescription() != null) {
+            update.set(product.<String>get("description"), patch.getDescription());
+        }
+        if (patch.getPrice() != null) {
+            update.set(product.<BigDecimal>get("price"), patch.getPrice());
+        }
+        if (patch.getQuantity() != null) {
+            update.set(product.<Integer>get("quantity"), patch.getQuantity());
+        }
+        if (patch.getCategory() != null) {
+            update.set(product.<String>get("category"), patch.getCategory());
+        }
+        update.set(product.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(product.<Long>get("version"), expectedVersion + 1);
+        update.where(
+                cb.equal(product.get("id"), id),
+                cb.equal(product.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,19 @@
+package com.devops.api.repository;
+
+import com.devops.api.model.Product;
+import com.devops.api.ranking.RankField;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/** Top-K reads that rank every category in one statement. */
+public interface ProductRankingRepository {
+
+    /**
+     * The first {@code n} products of each category by {@code field}, ties broken
+     * by id in the same direction; ordered by category, then rank.
+     */
+    @Transactional(readOnly = true)
+    List<Product> findTopPerCategory(RankField field, Sort.Direction direction, int n);
+}
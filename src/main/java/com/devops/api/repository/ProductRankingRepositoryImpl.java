@@ -0,0 +1,36 @@
+package com.devops.api.repository;
+
+import com.devops.api.model.Product;
+import com.devops.api.ranking.RankField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * ROW_NUMBER() partitioned by category, so the database hands back at most
+ * categories × n rows instead of the whole table. The ORDER BY column comes
+ * from {@link RankField}, never from the request.
+ */
+class ProductRankingRepositoryImpl implements ProductRankingRepository {
+
+    private static final String TOP_PER_CATEGORY = """
+            SELECT id, name, description, price, quantity, category, created_at, updated_at, version
+            FROM (SELECT p.*, ROW_NUMBER() OVER (PARTITION BY p.category ORDER BY p.%1$s %2$s, p.id %2$s) AS rn
+                  FROM products p) ranked
+            WHERE rn <= :n
+            ORDER BY category, rn""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Product> findTopPerCategory(RankField field, Sort.Direction direction, int n) {
+        String sql = TOP_PER_CATEGORY.formatted(field.column(), direction.isAscending() ? "ASC" : "DESC");
+        return entityManager.createNativeQuery(sql, Product.class)
+                .setParameter("n", n)
+                .getResultList();
+    }
+}
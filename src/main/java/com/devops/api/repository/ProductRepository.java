@@ -1,16 +1,21 @@
 package com.devops.api.repository;
 
+import com.devops.api.analytics.InventoryRow;
 import com.devops.api.model.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>,
+        ProductPatchRepository, ProductBulkRepository, ProductRankingRepository {
 
     List<Product> findByCategory(String category);
 
@@ -27,4 +32,18 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findOutOfStock();
 
     boolean existsByNameIgnoreCase(String name);
+
+    /** Matches on LOWER(name); callers pass lower-cased names. */
+    @Query("SELECT p FROM Product p WHERE LOWER(p.name) IN :names")
+    List<Product> findByLowerNameIn(@Param("names") Collection<String> names);
+
+    List<Product> findByUpdatedAtAfter(LocalDateTime since);
+
+    @Query("SELECT p.id FROM Product p")
+    List<Long> findAllIds();
+
+    /** Keyset page for the inventory report: rows after {@code afterId}, ordered by id. */
+    @Query("SELECT new com.devops.api.analytics.InventoryRow(p.id, p.category, p.price, p.quantity) "
+            + "FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<InventoryRow> findInventoryPage(@Param("afterId") long afterId, Pageable page);
 }
@@ -1,6 +1,7 @@
 package com.devops.api.service;
 
 import com.devops.api.dto.ProductDTO;
+import com.devops.api.dto.ProductPatchDTO;
 import com.devops.api.model.Product;
 
 import java.math.BigDecimal;
@@ -16,6 +17,9 @@ public interface ProductService {
 
     Product updateProduct(Long id, ProductDTO productDTO);
 
+    /** {@code expectedVersion} comes from If-Match; null means any version. */
+    Product patchProduct(Long id, ProductPatchDTO patch, Long expectedVersion);
+
     void deleteProduct(Long id);
 
     List<Product> getProductsByCategory(String category);
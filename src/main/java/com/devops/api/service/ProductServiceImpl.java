@@ -1,16 +1,29 @@
 package com.devops.api.service;
 
+import com.devops.api.cache.MissingIdCache;
+import com.devops.api.cache.ProductListCache;
+import com.devops.api.catalog.ProductNameFilter;
 import com.devops.api.dto.ProductDTO;
+import com.devops.api.dto.ProductPatchDTO;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.exception.ConcurrentUpdateException;
 import com.devops.api.exception.DuplicateResourceException;
+import com.devops.api.exception.PreconditionFailedException;
 import com.devops.api.exception.ResourceNotFoundException;
 import com.devops.api.model.Product;
 import com.devops.api.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -19,13 +32,19 @@ import java.util.List;
 @Transactional
 public class ProductServiceImpl implements ProductService {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductListCache listCache;
+    private final ProductNameFilter nameFilter;
+    private final MissingIdCache missingIds;
 
     @Override
     public Product createProduct(ProductDTO dto) {
         log.info("Creating product: {}", dto.getName());
 
-        if (productRepository.existsByNameIgnoreCase(dto.getName())) {
+        if (nameExists(dto.getName())) {
             throw new DuplicateResourceException("Product already exists with name: " + dto.getName());
         }
 
@@ -37,23 +56,32 @@ public class ProductServiceImpl implements ProductService {
                 .category(dto.getCategory())
                 .build();
 
-        Product saved = productRepository.save(product);
+        Product saved = saveUniqueName(product);
+        missingIds.invalidate(saved.getId());
+        eventPublisher.publishEvent(ProductChangeEvent.created(ProductSnapshot.of(saved)));
         log.info("Product created with id: {}", saved.getId());
         return saved;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Product getProductById(Long id) {
-        log.info("Fetching product id: {}", id);
+        log.debug("Fetching product id: {}", id);
+        if (missingIds.isMissing(id)) {
+            throw new ResourceNotFoundException("Product", id);
+        }
+        long epoch = missingIds.epoch();
         return productRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+                .orElseThrow(() -> {
+                    missingIds.recordMissing(id, epoch);
+                    return new ResourceNotFoundException("Product", id);
+                });
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
-        log.info("Fetching all products");
+        log.debug("Fetching all products");
         return productRepository.findAll();
     }
 
@@ -66,36 +94,126 @@ public class ProductServiceImpl implements ProductService {
 
         // Duplicate name check - skip if name hasn't changed
         if (!existing.getName().equalsIgnoreCase(dto.getName())
-                && productRepository.existsByNameIgnoreCase(dto.getName())) {
+                && nameExists(dto.getName())) {
             throw new DuplicateResourceException("Product already exists with name: " + dto.getName());
         }
 
+        ProductSnapshot before = ProductSnapshot.of(existing);
+
         existing.setName(dto.getName());
         existing.setDescription(dto.getDescription());
         existing.setPrice(dto.getPrice());
         existing.setQuantity(dto.getQuantity());
         existing.setCategory(dto.getCategory());
 
-        Product updated = productRepository.save(existing);
+        Product updated = saveUniqueName(existing);
+        eventPublisher.publishEvent(ProductChangeEvent.updated(before, ProductSnapshot.of(updated)));
         log.info("Product updated id: {}", updated.getId());
         return updated;
     }
 
+    @Override
+    public Product patchProduct(Long id, ProductPatchDTO patch, Long expectedVersion) {
+        log.info("Patching product id: {}", id);
+
+        Product existing = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw new PreconditionFailedException(
+                    "Product " + id + " is at version " + existing.getVersion() + ", not " + expectedVersion);
+        }
+        if (patch.getName() != null
+                && !existing.getName().equalsIgnoreCase(patch.getName())
+                && nameExists(patch.getName())) {
+            throw new DuplicateResourceException("Product already exists with name: " + patch.getName());
+        }
+        if (patch.isEmpty()) {
+            return existing;
+        }
+
+        // One UPDATE of just the patched columns; the loaded entity is left
+        // untouched so the flush at commit does not write the row again.
+        LocalDateTime now = LocalDateTime.now();
+        int rows;
+        try {
+            rows = productRepository.patch(id, existing.getVersion(), patch, now);
+        } catch (DataIntegrityViolationException ex) {
+            throw translate(ex, patch.getName());
+        }
+        if (rows == 0) {
+            // Another transaction committed between the read and the UPDATE
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Product " + id + " changed after version " + expectedVersion);
+            }
+            throw new ConcurrentUpdateException("Product " + id + " was modified concurrently; reload it and retry");
+        }
+
+        Product patched = Product.builder()
+                .id(id)
+                .name(patch.getName() != null ? patch.getName() : existing.getName())
+                .description(patch.getDescription() != null ? patch.getDescription() : existing.getDescription())
+                .price(patch.getPrice() != null ? patch.getPrice() : existing.getPrice())
+                .quantity(patch.getQuantity() != null ? patch.getQuantity() : existing.getQuantity())
+                .category(patch.getCategory() != null ? patch.getCategory() : existing.getCategory())
+                .createdAt(existing.getCreatedAt())
+                .updatedAt(now)
+                .version(existing.getVersion() + 1)
+                .build();
+        eventPublisher.publishEvent(ProductChangeEvent.updated(ProductSnapshot.of(existing), ProductSnapshot.of(patched)));
+        log.info("Product patched id: {} (version {})", id, patched.getVersion());
+        return patched;
+    }
+
     @Override
     public void deleteProduct(Long id) {
         log.info("Deleting product id: {}", id);
 
-        if (!productRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Product", id);
-        }
-        productRepository.deleteById(id);
+        Product existing = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+
+        productRepository.delete(existing);
+        eventPublisher.publishEvent(ProductChangeEvent.deleted(ProductSnapshot.of(existing)));
         log.info("Product deleted id: {}", id);
     }
 
+    private boolean nameExists(String name) {
+        return nameFilter.mightContain(name) && productRepository.existsByNameIgnoreCase(name);
+    }
+
+    // The name check is advisory: a concurrent writer can claim the name after
+    // it ran. Flushing here surfaces the unique-index violation inside the
+    // method, where it can be reported as a duplicate rather than a 500.
+    private Product saveUniqueName(Product product) {
+        try {
+            Product saved = productRepository.save(product);
+            productRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            throw translate(ex, product.getName());
+        }
+    }
+
+    private static RuntimeException translate(DataIntegrityViolationException ex, String name) {
+        return isUniqueViolation(ex) ? new DuplicateResourceException("Product already exists with name: " + name) : ex;
+    }
+
+    private static boolean isUniqueViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The cached list reads only open a transaction (and borrow a connection)
+    // inside the repository call, so a cache hit never waits on the pool.
+
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Product> getProductsByCategory(String category) {
-        return productRepository.findByCategory(category);
+        return listCache.byCategory(category, () -> productRepository.findByCategory(category));
     }
 
     @Override
@@ -114,14 +232,14 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Product> getInStockProducts() {
-        return productRepository.findInStock();
+        return listCache.inStock(productRepository::findInStock);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Product> getOutOfStockProducts() {
-        return productRepository.findOutOfStock();
+        return listCache.outOfStock(productRepository::findOutOfStock);
     }
 }
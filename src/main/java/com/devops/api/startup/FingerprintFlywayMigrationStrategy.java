@@ -0,0 +1,92 @@
+package com.devops.api.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Runs Flyway only when the migration scripts have changed.
+ *
+ * After every full migrate the SHA-256 of all scripts under the configured
+ * locations is stored in {@code schema_fingerprint} (created by V4). On the
+ * next start a single-row lookup replaces Flyway's classpath scan, script
+ * parsing, history validation and lock round trips when nothing changed.
+ */
+@Slf4j
+public class FingerprintFlywayMigrationStrategy implements FlywayMigrationStrategy {
+
+    private final StartupProperties properties;
+
+    public FingerprintFlywayMigrationStrategy(StartupProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void migrate(Flyway flyway) {
+        if (properties.isTrainingRun()) {
+            log.info("Training run: skipping Flyway");
+            return;
+        }
+        if (!properties.isSkipFlywayWhenUnchanged()) {
+            flyway.migrate();
+            return;
+        }
+        String fingerprint = fingerprint(flyway);
+        JdbcTemplate jdbc = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+        if (fingerprint.equals(storedFingerprint(jdbc))) {
+            log.info("Migration scripts unchanged (fingerprint {}), skipping Flyway", fingerprint.substring(0, 12));
+            return;
+        }
+        flyway.migrate();
+        jdbc.update("DELETE FROM schema_fingerprint");
+        jdbc.update("INSERT INTO schema_fingerprint (fingerprint) VALUES (?)", fingerprint);
+    }
+
+    private static String storedFingerprint(JdbcTemplate jdbc) {
+        try {
+            List<String> rows = jdbc.queryForList("SELECT fingerprint FROM schema_fingerprint", String.class);
+            return rows.isEmpty() ? null : rows.get(0);
+        } catch (DataAccessException ex) {
+            // Table not there yet: first start before V4 was applied
+            return null;
+        }
+    }
+
+    static String fingerprint(Flyway flyway) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            for (var location : flyway.getConfiguration().getLocations()) {
+                String pattern = location.getDescriptor().replace("classpath:", "classpath*:") + "/**/*.sql";
+                Resource[] scripts = resolver.getResources(pattern);
+                Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+                for (Resource script : scripts) {
+                    digest.update(script.getFilename().getBytes(StandardCharsets.UTF_8));
+                    try (InputStream in = script.getInputStream()) {
+                        digest.update(in.readAllBytes());
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.devops.api.startup;
+
+import com.devops.api.alert.StockAlertEngine;
+import com.devops.api.catalog.CatalogWarmStart;
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.catalog.ProductNameFilter;
+import com.devops.api.changelog.ChangeLog;
+import com.devops.api.changelog.ChangeLogAppender;
+import com.devops.api.datasource.ReplicaLagGuard;
+import com.devops.api.stats.CategoryAggregates;
+import com.devops.api.stock.StockSummaryMaterializer;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup tuning used by the {@code fast-startup} profile.
+ *
+ * Beans are deliberately unconditional: with Spring AOT, conditions are
+ * frozen at build time, so behaviour is switched by properties read at runtime.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(StartupProperties properties) {
+        return new FingerprintFlywayMigrationStrategy(properties);
+    }
+
+    /**
+     * Beans that must still start eagerly under {@code spring.main.lazy-initialization}:
+     * change log recovery, replica probing, the catalog warm start and the
+     * aggregates built from it should not land on the first request.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                ChangeLog.class, ChangeLogAppender.class, ReplicaLagGuard.class,
+                ProductCatalogIndex.class, CatalogWarmStart.class, CategoryAggregates.class,
+                StockSummaryMaterializer.class, ProductNameFilter.class, StockAlertEngine.class);
+    }
+}
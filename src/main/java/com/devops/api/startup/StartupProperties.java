@@ -0,0 +1,23 @@
+package com.devops.api.startup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+
+    /**
+     * Skip Flyway's scan, validation and migrate when the migration scripts on
+     * the classpath hash to the fingerprint recorded by the last full migration.
+     */
+    private boolean skipFlywayWhenUnchanged = false;
+
+    /**
+     * Set by the CDS training run, which starts the context without a database
+     * and exits on refresh. Migrations are not attempted at all.
+     */
+    private boolean trainingRun = false;
+}
@@ -0,0 +1,101 @@
+package com.devops.api.stats;
+
+import com.devops.api.catalog.CatalogListener;
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.stock.StockStatus;
+import com.devops.api.stock.StockThresholds;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-category totals maintained from catalog index deltas.
+ *
+ * Every create, update and delete reaches the index as an exact
+ * previous/current pair, which is subtracted and added here; a full
+ * recompute only happens when the index is loaded or on request. Reads
+ * cost O(categories) and never touch the database.
+ */
+@Component
+public class CategoryAggregates implements CatalogListener {
+
+    private final StockThresholds thresholds;
+    private final ProductCatalogIndex index;
+    private volatile Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+    public CategoryAggregates(StockThresholds thresholds, ProductCatalogIndex index, MeterRegistry meterRegistry) {
+        this.thresholds = thresholds;
+        this.index = index;
+        index.addListener(this);
+        Gauge.builder("products.stats.categories", this, aggregates -> aggregates.totals.size())
+                .description("Categories tracked by the in-memory aggregates")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onChange(ProductSnapshot previous, ProductSnapshot current) {
+        if (previous != null) {
+            totals.computeIfAbsent(previous.category(), key -> new Totals()).add(previous, -1, thresholds);
+        }
+        if (current != null) {
+            totals.computeIfAbsent(current.category(), key -> new Totals()).add(current, 1, thresholds);
+        }
+    }
+
+    @Override
+    public void onReload(Collection<ProductSnapshot> products) {
+        Map<String, Totals> rebuilt = new ConcurrentHashMap<>();
+        for (ProductSnapshot product : products) {
+            rebuilt.computeIfAbsent(product.category(), key -> new Totals()).add(product, 1, thresholds);
+        }
+        totals = rebuilt;
+    }
+
+    /** Rebuilds all totals from the catalog index. */
+    public void recompute() {
+        index.replayTo(this);
+    }
+
+    /** Categories with at least one product, ordered by name. */
+    public List<CategoryStats> snapshot() {
+        return totals.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .filter(stats -> stats.productCount() > 0)
+                .sorted(Comparator.comparing(CategoryStats::category))
+                .toList();
+    }
+
+    private static final class Totals {
+        private long products;
+        private long units;
+        private BigDecimal value = BigDecimal.ZERO;
+        private long lowStock;
+        private long outOfStock;
+
+        synchronized void add(ProductSnapshot product, int sign, StockThresholds thresholds) {
+            int quantity = product.quantity() != null ? product.quantity() : 0;
+            BigDecimal price = product.price() != null ? product.price() : BigDecimal.ZERO;
+            products += sign;
+            units += (long) sign * quantity;
+            value = value.add(price.multiply(BigDecimal.valueOf((long) sign * quantity)));
+            StockStatus status = thresholds.classify(quantity);
+            if (status == StockStatus.LOW_STOCK) {
+                lowStock += sign;
+            } else if (status == StockStatus.OUT_OF_STOCK) {
+                outOfStock += sign;
+            }
+        }
+
+        synchronized CategoryStats toStats(String category) {
+            return new CategoryStats(category, products, units, value, lowStock, outOfStock);
+        }
+    }
+}
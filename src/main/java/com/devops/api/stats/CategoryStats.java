@@ -0,0 +1,16 @@
+package com.devops.api.stats;
+
+import java.math.BigDecimal;
+
+/**
+ * Inventory totals for one category. {@code inventoryValue} is the sum of
+ * price × quantity; low-stock products are those in the LOW_STOCK bucket.
+ */
+public record CategoryStats(
+        String category,
+        long productCount,
+        long totalUnits,
+        BigDecimal inventoryValue,
+        long lowStockCount,
+        long outOfStockCount) {
+}
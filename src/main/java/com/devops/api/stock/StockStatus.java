@@ -0,0 +1,8 @@
+package com.devops.api.stock;
+
+public enum StockStatus {
+    OUT_OF_STOCK,
+    LOW_STOCK,
+    IN_STOCK,
+    WELL_STOCKED
+}
@@ -0,0 +1,25 @@
+package com.devops.api.stock;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable result of one materialization: product counts per status, overall
+ * and per category, plus the rows of each status ordered by quantity.
+ */
+public record StockSummary(
+        Instant refreshedAt,
+        Map<StockStatus, Long> totals,
+        Map<String, Map<StockStatus, Long>> byCategory,
+        @JsonIgnore Map<StockStatus, List<StockSummaryItem>> items) {
+
+    public List<StockSummaryItem> items(StockStatus status, String category) {
+        List<StockSummaryItem> rows = items.getOrDefault(status, List.of());
+        return category == null ? rows : rows.stream()
+                .filter(item -> category.equalsIgnoreCase(item.category()))
+                .toList();
+    }
+}
@@ -0,0 +1,20 @@
+package com.devops.api.stock;
+
+import com.devops.api.event.ProductSnapshot;
+
+import java.math.BigDecimal;
+
+/** One row of the stock summary; the columns of the V3 {@code product_stock_summary} view. */
+public record StockSummaryItem(
+        Long id,
+        String name,
+        String category,
+        BigDecimal price,
+        Integer quantity,
+        StockStatus stockStatus) {
+
+    static StockSummaryItem of(ProductSnapshot product, StockStatus status) {
+        return new StockSummaryItem(product.id(), product.name(), product.category(),
+                product.price(), product.quantity(), status);
+    }
+}
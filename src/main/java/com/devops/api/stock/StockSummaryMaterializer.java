@@ -0,0 +1,126 @@
+package com.devops.api.stock;
+
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Materialized replacement for the V3 {@code product_stock_summary} view.
+ *
+ * The view re-evaluates its CASE expression over the whole table on every
+ * query. Here the buckets are computed from the in-memory catalog on a fixed
+ * delay, and only when the catalog changed since the last build, so reads are
+ * a map lookup. Results may lag writes by up to one refresh interval.
+ */
+@Component
+@Slf4j
+public class StockSummaryMaterializer {
+
+    private static final Comparator<StockSummaryItem> BY_QUANTITY =
+            Comparator.comparing(StockSummaryItem::quantity).thenComparing(StockSummaryItem::id);
+
+    private final ProductCatalogIndex index;
+    private final StockThresholds thresholds;
+    private final ScheduledExecutorService scheduler;
+    private final Timer refreshTimer;
+    private volatile StockSummary current;
+    private volatile long builtFromVersion = -1;
+
+    public StockSummaryMaterializer(ProductCatalogIndex index, StockThresholds thresholds,
+                                    StockSummaryProperties properties, MeterRegistry meterRegistry) {
+        this.index = index;
+        this.thresholds = thresholds;
+        this.refreshTimer = Timer.builder("products.stock-summary.refresh")
+                .description("Time to rebuild the stock summary")
+                .register(meterRegistry);
+        Gauge.builder("products.stock-summary.staleness", this, StockSummaryMaterializer::stalenessSeconds)
+                .description("Seconds since the last rebuild while the catalog has unapplied changes")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-summary-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshIfChanged, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /** The last materialized summary, built on first use if the schedule has not run yet. */
+    public StockSummary current() {
+        StockSummary summary = current;
+        return summary != null ? summary : refresh();
+    }
+
+    /** Rebuilds now, regardless of whether the catalog changed. */
+    public synchronized StockSummary refresh() {
+        long version = index.version();
+        StockSummary summary = refreshTimer.record(() -> build(index.snapshot()));
+        current = summary;
+        builtFromVersion = version;
+        return summary;
+    }
+
+    private void refreshIfChanged() {
+        try {
+            if (index.isLoaded() && index.version() != builtFromVersion) {
+                refresh();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Stock summary refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    private StockSummary build(List<ProductSnapshot> products) {
+        Map<StockStatus, Long> totals = new EnumMap<>(StockStatus.class);
+        Map<String, Map<StockStatus, Long>> byCategory = new TreeMap<>();
+        Map<StockStatus, List<StockSummaryItem>> items = new EnumMap<>(StockStatus.class);
+        for (StockStatus status : StockStatus.values()) {
+            totals.put(status, 0L);
+            items.put(status, new ArrayList<>());
+        }
+        for (ProductSnapshot product : products) {
+            StockStatus status = thresholds.classify(product.quantity() != null ? product.quantity() : 0);
+            totals.merge(status, 1L, Long::sum);
+            byCategory.computeIfAbsent(product.category(), key -> new EnumMap<>(StockStatus.class))
+                    .merge(status, 1L, Long::sum);
+            items.get(status).add(StockSummaryItem.of(product, status));
+        }
+        items.replaceAll((status, rows) -> {
+            rows.sort(BY_QUANTITY);
+            return List.copyOf(rows);
+        });
+        return new StockSummary(Instant.now(), totals, byCategory, items);
+    }
+
+    private double stalenessSeconds() {
+        StockSummary summary = current;
+        if (summary == null || index.version() == builtFromVersion) {
+            return 0;
+        }
+        return Duration.between(summary.refreshedAt(), Instant.now()).toMillis() / 1000.0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package com.devops.api.stock;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.stock-summary")
+public class StockSummaryProperties {
+
+    /** Delay between rebuilds; a rebuild is skipped when the catalog has not changed. */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+}
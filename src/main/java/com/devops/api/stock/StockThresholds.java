@@ -0,0 +1,51 @@
+package com.devops.api.stock;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Quantity bounds of the stock status buckets. Defaults match the CASE
+ * expression of the V3 {@code product_stock_summary} view.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.stock")
+public class StockThresholds {
+
+    /** Highest quantity still reported as LOW_STOCK. */
+    private int lowStockMax = 5;
+
+    /** Highest quantity still reported as IN_STOCK; anything above is WELL_STOCKED. */
+    private int inStockMax = 20;
+
+    public StockStatus classify(int quantity) {
+        if (quantity <= 0) {
+            return StockStatus.OUT_OF_STOCK;
+        }
+        if (quantity <= lowStockMax) {
+            return StockStatus.LOW_STOCK;
+        }
+        return quantity <= inStockMax ? StockStatus.IN_STOCK : StockStatus.WELL_STOCKED;
+    }
+
+    /** Smallest quantity classified as {@code status}. */
+    public int minQuantity(StockStatus status) {
+        return switch (status) {
+            case OUT_OF_STOCK -> 0;
+            case LOW_STOCK -> 1;
+            case IN_STOCK -> lowStockMax + 1;
+            case WELL_STOCKED -> inStockMax + 1;
+        };
+    }
+
+    /** Largest quantity classified as {@code status}; {@link Integer#MAX_VALUE} for WELL_STOCKED. */
+    public int maxQuantity(StockStatus status) {
+        return switch (status) {
+            case OUT_OF_STOCK -> 0;
+            case LOW_STOCK -> lowStockMax;
+            case IN_STOCK -> inStockMax;
+            case WELL_STOCKED -> Integer.MAX_VALUE;
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.devops.api.stream;
+
+import com.devops.api.event.ChangeType;
+import com.devops.api.event.ProductChangeEvent;
+
+import java.util.Set;
+
+/**
+ * Subscriber-side filter. Empty criteria match everything.
+ */
+public record ChangeFilter(String category, Set<Long> ids, Set<ChangeType> types) {
+
+    public static final ChangeFilter ALL = new ChangeFilter(null, Set.of(), Set.of());
+
+    public ChangeFilter {
+        ids = ids == null ? Set.of() : Set.copyOf(ids);
+        types = types == null ? Set.of() : Set.copyOf(types);
+    }
+
+    public boolean matches(ProductChangeEvent event) {
+        if (!types.isEmpty() && !types.contains(event.type())) {
+            return false;
+        }
+        if (!ids.isEmpty() && !ids.contains(event.productId())) {
+            return false;
+        }
+        return category == null || category.equals(event.category());
+    }
+}
@@ -0,0 +1,59 @@
+package com.devops.api.stream;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One connected SSE client: its emitter, filter and private event buffer.
+ *
+ * The {@code draining} flag guarantees at most one dispatch task writes to the
+ * emitter at a time, which keeps event order and lets all subscribers share a
+ * small thread pool instead of holding a thread per connection.
+ */
+@Getter
+class ChangeSubscription {
+
+    private final long id;
+    private final SseEmitter emitter;
+    private final ChangeFilter filter;
+    private final OverflowPolicy overflowPolicy;
+    private final EventRingBuffer<SequencedChange> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    ChangeSubscription(long id, SseEmitter emitter, ChangeFilter filter,
+                       OverflowPolicy overflowPolicy, int bufferSize) {
+        this.id = id;
+        this.emitter = emitter;
+        this.filter = filter;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new EventRingBuffer<>(bufferSize);
+    }
+
+    /**
+     * Buffers the change according to the overflow policy.
+     * Returns false if the subscriber must be disconnected.
+     */
+    boolean enqueue(SequencedChange change) {
+        if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+            return buffer.offer(change);
+        }
+        if (buffer.offerDropOldest(change)) {
+            dropped.incrementAndGet();
+        }
+        return true;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /** Marks the subscription closed; returns true only for the first caller. */
+    boolean markClosed() {
+        return closed.compareAndSet(false, true);
+    }
+}
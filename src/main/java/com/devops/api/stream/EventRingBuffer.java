@@ -0,0 +1,63 @@
+package com.devops.api.stream;
+
+/**
+ * Fixed-capacity FIFO backed by an array. One instance per subscriber, so the
+ * memory held for a slow client is bounded no matter how far behind it falls.
+ */
+public class EventRingBuffer<T> {
+
+    private final Object[] slots;
+    private int head;
+    private int size;
+
+    public EventRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.slots = new Object[capacity];
+    }
+
+    /** Appends the element, or returns false without modifying the buffer when full. */
+    public synchronized boolean offer(T element) {
+        if (size == slots.length) {
+            return false;
+        }
+        slots[(head + size) % slots.length] = element;
+        size++;
+        return true;
+    }
+
+    /** Appends the element, evicting the oldest one when full. Returns true if an element was evicted. */
+    public synchronized boolean offerDropOldest(T element) {
+        boolean evicted = false;
+        if (size == slots.length) {
+            slots[head] = null;
+            head = (head + 1) % slots.length;
+            size--;
+            evicted = true;
+        }
+        slots[(head + size) % slots.length] = element;
+        size++;
+        return evicted;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T element = (T) slots[head];
+        slots[head] = null;
+        head = (head + 1) % slots.length;
+        size--;
+        return element;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
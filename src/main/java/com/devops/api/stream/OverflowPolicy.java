@@ -0,0 +1,12 @@
+package com.devops.api.stream;
+
+/**
+ * What to do when a subscriber's buffer is full because the client reads
+ * slower than changes are produced.
+ */
+public enum OverflowPolicy {
+    /** Discard the oldest buffered event and keep the connection open. */
+    DROP_OLDEST,
+    /** Close the connection; the client is expected to reconnect and resync. */
+    DISCONNECT
+}
@@ -0,0 +1,207 @@
+package com.devops.api.stream;
+
+import com.devops.api.event.ProductChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Fans committed product changes out to SSE subscribers.
+ *
+ * Connections are held by the servlet container in async mode, so an idle
+ * subscriber costs a socket and a small ring buffer, not a thread. Writes are
+ * done by a shared dispatch pool; each subscription is drained by at most one
+ * task at a time. Heartbeats go through the same buffers and pool, so the
+ * heartbeat thread itself never writes to a socket and one stalled client
+ * cannot hold up keep-alives for the others.
+ */
+@Component
+@Slf4j
+public class ProductChangeBroadcaster {
+
+    private final StreamProperties properties;
+    private final LongFunction<SseEmitter> emitters;
+    private final Map<Long, ChangeSubscription> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicLong subscriptionIds = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter droppedEvents;
+    private final Counter slowDisconnects;
+
+    @Autowired
+    public ProductChangeBroadcaster(StreamProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, SseEmitter::new);
+    }
+
+    ProductChangeBroadcaster(StreamProperties properties, MeterRegistry meterRegistry,
+                             LongFunction<SseEmitter> emitters) {
+        this.properties = properties;
+        this.emitters = emitters;
+        this.dispatcher = Executors.newFixedThreadPool(properties.getDispatchThreads(), namedThreads("sse-dispatch-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(namedThreads("sse-heartbeat-"));
+
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("products.stream.subscribers", subscriptions, Map::size)
+                .description("Connected SSE subscribers")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("products.stream.dropped")
+                .description("Events discarded by DROP_OLDEST buffers")
+                .register(meterRegistry);
+        this.slowDisconnects = Counter.builder("products.stream.disconnects")
+                .tag("reason", "slow-consumer")
+                .description("Subscribers closed by the DISCONNECT overflow policy")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(ChangeFilter filter, OverflowPolicy overflowPolicy) {
+        OverflowPolicy policy = overflowPolicy != null ? overflowPolicy : properties.getOverflowPolicy();
+        SseEmitter emitter = emitters.apply(properties.getTimeout().toMillis());
+        ChangeSubscription subscription = new ChangeSubscription(
+                subscriptionIds.incrementAndGet(), emitter, filter, policy, properties.getBufferSize());
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(ex -> remove(subscription));
+
+        subscriptions.put(subscription.getId(), subscription);
+        log.debug("SSE subscriber {} connected (filter={}, policy={})", subscription.getId(), filter, policy);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductChange(ProductChangeEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        SequencedChange change = new SequencedChange(sequence.incrementAndGet(), event);
+        for (ChangeSubscription subscription : subscriptions.values()) {
+            if (subscription.isClosed() || !subscription.getFilter().matches(event)) {
+                continue;
+            }
+            long droppedBefore = subscription.getDropped().get();
+            if (!subscription.enqueue(change)) {
+                slowDisconnects.increment();
+                log.warn("Disconnecting slow SSE subscriber {} (buffer of {} full)",
+                        subscription.getId(), subscription.getBuffer().capacity());
+                close(subscription);
+                continue;
+            }
+            if (subscription.getDropped().get() != droppedBefore) {
+                droppedEvents.increment();
+            }
+            scheduleDrain(subscription);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void scheduleDrain(ChangeSubscription subscription) {
+        if (!subscription.getDraining().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(subscription));
+        } catch (RejectedExecutionException ex) {
+            subscription.getDraining().set(false);
+        }
+    }
+
+    private void drain(ChangeSubscription subscription) {
+        try {
+            SequencedChange change;
+            while (!subscription.isClosed() && (change = subscription.getBuffer().poll()) != null) {
+                if (change == SequencedChange.HEARTBEAT) {
+                    subscription.getEmitter().send(SseEmitter.event().comment("keep-alive"));
+                    continue;
+                }
+                subscription.getEmitter().send(SseEmitter.event()
+                        .id(Long.toString(change.sequence()))
+                        .name(eventName(change.event()))
+                        .data(change.event(), MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("SSE subscriber {} went away: {}", subscription.getId(), ex.getMessage());
+            close(subscription);
+        } finally {
+            subscription.getDraining().set(false);
+        }
+        // An event may have arrived between the last poll and clearing the flag
+        if (!subscription.isClosed() && subscription.getBuffer().size() > 0) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (ChangeSubscription subscription : subscriptions.values()) {
+            // Skip busy subscribers; the data they are receiving proves liveness
+            if (subscription.isClosed() || subscription.getDraining().get()
+                    || subscription.getBuffer().size() > 0) {
+                continue;
+            }
+            if (subscription.getBuffer().offer(SequencedChange.HEARTBEAT)) {
+                scheduleDrain(subscription);
+            }
+        }
+    }
+
+    private void close(ChangeSubscription subscription) {
+        if (subscription.markClosed()) {
+            subscriptions.remove(subscription.getId());
+            subscription.getEmitter().complete();
+        }
+    }
+
+    private void remove(ChangeSubscription subscription) {
+        subscription.markClosed();
+        subscriptions.remove(subscription.getId());
+        log.debug("SSE subscriber {} disconnected ({} events dropped)",
+                subscription.getId(), subscription.getDropped().get());
+    }
+
+    private static String eventName(ProductChangeEvent event) {
+        return event.type().name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscriptions.values().forEach(this::close);
+    }
+}
@@ -0,0 +1,10 @@
+package com.devops.api.stream;
+
+import com.devops.api.event.ProductChangeEvent;
+
+/** A change plus the stream-wide sequence number sent as the SSE {@code id}. */
+record SequencedChange(long sequence, ProductChangeEvent event) {
+
+    /** Buffered like a change, but written as a keep-alive comment; compared by identity. */
+    static final SequencedChange HEARTBEAT = new SequencedChange(0, null);
+}
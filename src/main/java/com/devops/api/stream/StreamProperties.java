@@ -0,0 +1,28 @@
+package com.devops.api.stream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.stream")
+public class StreamProperties {
+
+    /** Events buffered per subscriber before the overflow policy kicks in. */
+    private int bufferSize = 256;
+
+    /** Policy used when the client does not ask for one. */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /** Lifetime of a single SSE connection; clients reconnect afterwards. */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Interval of comment-only keep-alives, also used to detect dead connections. */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /** Threads shared by all subscribers for writing buffered events. */
+    private int dispatchThreads = 4;
+}
@@ -0,0 +1,11 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V4: Fingerprint of the applied migration scripts
+-- Lets the fast-startup profile skip Flyway when nothing has changed
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE IF NOT EXISTS schema_fingerprint (
+    fingerprint VARCHAR(64) NOT NULL,
+    recorded_at TIMESTAMP   NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE schema_fingerprint IS 'SHA-256 of db/migration scripts at the last full Flyway migrate';
@@ -0,0 +1,10 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V5: Case-insensitive unique product names
+-- The service treats names case-insensitively; this makes the database agree,
+-- so a duplicate that races past the application check is still rejected
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_products_name_lower ON products(LOWER(name));
+
+-- Superseded by the unique index above, which serves the same lookups
+DROP INDEX IF EXISTS idx_products_name;
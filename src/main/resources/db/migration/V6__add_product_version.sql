@@ -0,0 +1,8 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V6: Optimistic-locking version column
+-- Bumped on every update; exposed as the ETag checked by If-Match on PATCH
+-- ─────────────────────────────────────────────────────────────────────────────
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN products.version IS 'Optimistic-locking version, incremented on every update';
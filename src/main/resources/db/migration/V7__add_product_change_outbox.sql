@@ -0,0 +1,13 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V7: Transactional outbox for the change log
+-- Written in the same transaction as the product change; deleted once the
+-- change log writer has appended it
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE IF NOT EXISTS product_change_outbox (
+    id          BIGSERIAL   PRIMARY KEY,
+    payload     BYTEA       NOT NULL,
+    created_at  TIMESTAMP   NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE product_change_outbox IS 'Committed product changes not yet appended to the change log';
@@ -0,0 +1,106 @@
+package com.devops.api.alert;
+
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Stock Alert Engine Unit Tests")
+class StockAlertEngineTest {
+
+    private final List<StockAlert> delivered = new CopyOnWriteArrayList<>();
+    private AlertProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private StockAlertEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AlertProperties();
+        properties.setSinks(List.of("recording"));
+        meterRegistry = new SimpleMeterRegistry();
+        AlertSink recording = new AlertSink() {
+            @Override
+            public String name() {
+                return "recording";
+            }
+
+            @Override
+            public void send(StockAlert alert) {
+                delivered.add(alert);
+            }
+        };
+        engine = new StockAlertEngine(properties, List.of(recording, new LogAlertSink()),
+                new ProductCatalogIndex(meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("onChange - Should trigger once on the way down and recover on the way up")
+    void onChange_ShouldBeEdgeTriggered() {
+        engine.putCategoryRule("Books", 5);
+
+        engine.onChange(product(1, 10, "Books"), product(1, 4, "Books"));
+        engine.onChange(product(1, 4, "Books"), product(1, 2, "Books"));   // still below: no edge
+        engine.onChange(product(1, 2, "Books"), product(1, 8, "Books"));
+        engine.onChange(product(2, 10, "Games"), product(2, 0, "Games")); // no rule for Games
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered.size() == 2);
+        assertThat(delivered).extracting(StockAlert::type)
+                .containsExactly(StockAlert.Type.TRIGGERED, StockAlert.Type.RECOVERED);
+        assertThat(delivered.get(0).previousQuantity()).isEqualTo(10);
+        assertThat(delivered.get(0).quantity()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("onChange - Should suppress re-triggering within the debounce window")
+    void onChange_ShouldDebounceFlapping() {
+        engine.putProductRule(1, 5);
+
+        for (int i = 0; i < 3; i++) {
+            engine.onChange(product(1, 6, "Books"), product(1, 4, "Books"));
+            engine.onChange(product(1, 4, "Books"), product(1, 6, "Books"));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered.size() == 2);
+        assertThat(meterRegistry.get("products.alerts.suppressed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("products.alerts").tag("type", "triggered").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onChange - Should evaluate product and category rules independently")
+    void onChange_ShouldEvaluateBothScopes() {
+        properties.setDebounce(Duration.ZERO);
+        AlertRule productRule = engine.putProductRule(1, 3);
+        AlertRule categoryRule = engine.putCategoryRule("Books", 10);
+
+        engine.onChange(product(1, 12, "Books"), product(1, 2, "Books"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered.size() == 2);
+        assertThat(delivered).extracting(StockAlert::ruleId)
+                .containsExactlyInAnyOrder(productRule.id(), categoryRule.id());
+        assertThat(engine.rules()).hasSize(2);
+        assertThat(engine.removeCategoryRule("Books")).isTrue();
+        assertThat(engine.ruleCount()).isEqualTo(1);
+    }
+
+    private static ProductSnapshot product(long id, int quantity, String category) {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 10, 0);
+        return new ProductSnapshot(id, "Product " + id, null, new BigDecimal("9.99"), quantity, category, now, now);
+    }
+}
@@ -0,0 +1,131 @@
+package com.devops.api.analytics;
+
+import com.devops.api.repository.ProductRepository;
+import com.devops.api.stock.StockStatus;
+import com.devops.api.stock.StockThresholds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Inventory Analytics Unit Tests")
+class InventoryAnalyticsTest {
+
+    private static final int ROWS = 100_000;
+
+    private final List<InventoryRow> catalog = new ArrayList<>();
+    private InventoryAnalytics analytics;
+    private int pagesRead;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        for (long id = 1; id <= ROWS; id++) {
+            BigDecimal price = BigDecimal.valueOf(1 + random.nextInt(500_000), 2);
+            int quantity = random.nextInt(10) == 0 ? 0 : random.nextInt(1_000);
+            catalog.add(new InventoryRow(id, "Category " + (id % 13), price, quantity));
+        }
+        AnalyticsProperties properties = new AnalyticsProperties();
+        properties.setChunkSize(7_000);
+        properties.setParallelism(4);
+        analytics = new InventoryAnalytics(mock(ProductRepository.class), new StockThresholds(),
+                properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        analytics.shutdown();
+    }
+
+    @Test
+    @DisplayName("analyze - Should match exact sums and counts computed sequentially")
+    void analyze_ShouldMatchSequentialTotals() {
+        InventoryAccumulator result = analytics.analyze(this::page, new HashMap<>(), 10);
+
+        long units = catalog.stream().mapToLong(InventoryRow::quantity).sum();
+        BigDecimal value = catalog.stream()
+                .map(row -> row.price().multiply(BigDecimal.valueOf(row.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long outOfStock = catalog.stream().filter(row -> row.quantity() == 0).count();
+
+        assertThat(pagesRead).isEqualTo(ROWS / 7_000 + 1);
+        assertThat(result.products).isEqualTo(ROWS);
+        assertThat(result.units).isEqualTo(units);
+        assertThat(BigDecimal.valueOf(result.valueCents, 2)).isEqualByComparingTo(value);
+        assertThat(result.statusCounts[StockStatus.OUT_OF_STOCK.ordinal()]).isEqualTo(outOfStock);
+        assertThat(Arrays.stream(result.quantityHistogram).sum()).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("analyze - Should keep the N most valuable products across chunks")
+    void analyze_ShouldReturnTopNByValue() {
+        InventoryAccumulator result = analytics.analyze(this::page, new HashMap<>(), 5);
+
+        List<Long> expected = catalog.stream()
+                .sorted((a, b) -> b.price().multiply(BigDecimal.valueOf(b.quantity()))
+                        .compareTo(a.price().multiply(BigDecimal.valueOf(a.quantity()))))
+                .limit(5)
+                .map(InventoryRow::id)
+                .toList();
+        assertThat(result.topDescending()).extracting(InventoryAccumulator.TopEntry::id)
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("analyze - Should estimate per-category price percentiles within the relative accuracy")
+    void analyze_ShouldEstimatePricePercentiles() {
+        Map<String, Integer> categoryIds = new HashMap<>();
+        InventoryAccumulator result = analytics.analyze(this::page, categoryIds, 0);
+
+        long[] prices = catalog.stream()
+                .filter(row -> row.category().equals("Category 3"))
+                .mapToLong(row -> InventoryChunk.toCents(row.price()))
+                .sorted()
+                .toArray();
+        QuantileSketch sketch = result.category(categoryIds.get("Category 3")).priceSketch;
+
+        for (double q : InventoryAnalytics.PERCENTILES) {
+            long exact = prices[(int) (q * (prices.length - 1))];
+            assertThat(sketch.quantile(q)).isCloseTo(exact, withinPercentage(1.01));
+        }
+        assertThat(sketch.min()).isEqualTo(prices[0]);
+        assertThat(sketch.max()).isEqualTo(prices[prices.length - 1]);
+    }
+
+    @Test
+    @DisplayName("QuantileSketch.merge - Should equal a sketch fed all values directly")
+    void quantileSketch_MergeShouldEqualCombinedSketch() {
+        QuantileSketch left = new QuantileSketch(0.01);
+        QuantileSketch right = new QuantileSketch(0.01);
+        QuantileSketch all = new QuantileSketch(0.01);
+        for (long value = 0; value < 10_000; value++) {
+            (value % 2 == 0 ? left : right).add(value * value);
+            all.add(value * value);
+        }
+
+        left.merge(right);
+
+        assertThat(left.count()).isEqualTo(all.count());
+        for (double q : new double[]{0, 0.1, 0.5, 0.9, 0.999, 1}) {
+            assertThat(left.quantile(q)).isEqualTo(all.quantile(q));
+        }
+    }
+
+    private List<InventoryRow> page(long afterId, int limit) {
+        pagesRead++;
+        int from = (int) Math.max(0, afterId);
+        return catalog.subList(Math.min(from, catalog.size()), Math.min(from + limit, catalog.size()));
+    }
+}
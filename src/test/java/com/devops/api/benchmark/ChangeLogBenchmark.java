@@ -0,0 +1,79 @@
+package com.devops.api.benchmark;
+
+import com.devops.api.changelog.ChangeLog;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append throughput and replay speed of the memory-mapped change log.
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ChangeLogBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChangeLogBenchmark {
+
+    private static final int REPLAY_RECORDS = 100_000;
+
+    private Path directory;
+    private ChangeLog changeLog;
+    private ProductChangeEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("changelog-bench");
+        changeLog = new ChangeLog(directory, 64 * 1024 * 1024, 8, Duration.ofDays(1));
+        LocalDateTime now = LocalDateTime.now();
+        ProductSnapshot before = new ProductSnapshot(42L, "Mechanical Keyboard",
+                "Cherry MX Red switches, TKL layout, RGB backlit", new BigDecimal("129.99"), 20, "Electronics", now, now);
+        ProductSnapshot after = new ProductSnapshot(42L, "Mechanical Keyboard",
+                "Cherry MX Red switches, TKL layout, RGB backlit", new BigDecimal("129.99"), 19, "Electronics", now, now);
+        event = ProductChangeEvent.updated(before, after);
+        for (int i = 0; i < REPLAY_RECORDS; i++) {
+            changeLog.append(event);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        changeLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long append() {
+        return changeLog.append(event);
+    }
+
+    /** Header-only scan: offsets and ids are read in place from the mapping. */
+    @Benchmark
+    @OperationsPerInvocation(REPLAY_RECORDS)
+    public long replayHeaders(Blackhole blackhole) {
+        return changeLog.replay(0, REPLAY_RECORDS, record -> blackhole.consume(record.productId()));
+    }
+
+    /** Full replay that materialises every event. */
+    @Benchmark
+    @OperationsPerInvocation(REPLAY_RECORDS)
+    public long replayDecoded(Blackhole blackhole) {
+        return changeLog.replay(0, REPLAY_RECORDS, record -> blackhole.consume(record.toEvent()));
+    }
+}
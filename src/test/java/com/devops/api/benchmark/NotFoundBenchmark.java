@@ -0,0 +1,115 @@
+package com.devops.api.benchmark;
+
+import com.devops.api.SpringBootCicdApiApplication;
+import com.devops.api.dto.ApiResponse;
+import com.devops.api.exception.ErrorBodies;
+import com.devops.api.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Throughput of {@code GET /api/v1/products/{id}} for ids that don't exist.
+ *
+ * {@code notFoundRequest} runs the application in-process on H2, driven through
+ * MockMvc so loopback latency doesn't drown the server-side cost, and compares
+ * {@code missingIds=false} (every lookup queries the database) with the
+ * negative cache enabled. {@code legacyErrorPath} and {@code errorPath} isolate
+ * the rest of the change: a stack-capturing exception plus a Jackson-built
+ * {@code ApiResponse}, against a stackless exception plus the preserialized body.
+ *
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=NotFoundBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    /** Roughly the depth at which a controller method runs inside Tomcat and the Spring MVC chain. */
+    private static final int REQUEST_STACK_DEPTH = 120;
+    private static final int MISSING_IDS = 1_024;
+    private static final long FIRST_MISSING_ID = 1_000_000L;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private long next;
+
+    @State(Scope.Benchmark)
+    public static class Application {
+
+        @Param({"false", "true"})
+        public boolean missingIds;
+
+        private ConfigurableApplicationContext context;
+        private MockMvc mockMvc;
+
+        @Setup(Level.Trial)
+        public void start() {
+            context = new SpringApplicationBuilder(SpringBootCicdApiApplication.class)
+                    .profiles("test")
+                    .properties(
+                            "server.port=0",
+                            "spring.jpa.show-sql=false",
+                            "logging.level.root=WARN",
+                            "logging.level.com.devops=WARN",
+                            "app.request-log.enabled=false",
+                            "app.missing-ids.enabled=" + missingIds)
+                    .run();
+            mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int notFoundRequest(Application app) throws Exception {
+        MvcResult result = app.mockMvc.perform(get("/api/v1/products/{id}", nextMissingId())).andReturn();
+        if (result.getResponse().getStatus() != 404) {
+            throw new IllegalStateException("Expected 404, got " + result.getResponse().getStatus());
+        }
+        return result.getResponse().getContentAsByteArray().length;
+    }
+
+    @Benchmark
+    public byte[] legacyErrorPath() throws Exception {
+        long id = nextMissingId();
+        RuntimeException ex = atDepth(REQUEST_STACK_DEPTH,
+                () -> new RuntimeException("Product not found with id: " + id));
+        return objectMapper.writeValueAsBytes(ApiResponse.error(ex.getMessage()));
+    }
+
+    @Benchmark
+    public byte[] errorPath() {
+        long id = nextMissingId();
+        RuntimeException ex = atDepth(REQUEST_STACK_DEPTH, () -> new ResourceNotFoundException("Product", id));
+        return ErrorBodies.encode(ex.getMessage(), LocalDateTime.now());
+    }
+
+    private long nextMissingId() {
+        return FIRST_MISSING_ID + (next++ & (MISSING_IDS - 1));
+    }
+
+    private static <T> T atDepth(int depth, Supplier<T> supplier) {
+        return depth == 0 ? supplier.get() : atDepth(depth - 1, supplier);
+    }
+}
@@ -0,0 +1,122 @@
+package com.devops.api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from process launch to the first successful {@code GET /api/v1/products}.
+ *
+ * Needs the packaged jar and a reachable database (DB_URL etc. are inherited):
+ * <pre>
+ * mvn -Pfast-startup package -DskipTests
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=StartupBenchmark
+ * </pre>
+ * {@code default} runs the plain jar; {@code fast-startup} runs the extracted
+ * jar from target/cds with the CDS archive, AOT classes and the fast-startup profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({"default", "fast-startup"})
+    public String mode;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    private Path target;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void locateBuild() {
+        target = Path.of(System.getProperty("startup.target", "target")).toAbsolutePath();
+        if ("fast-startup".equals(mode) && !Files.exists(target.resolve("cds/application.jsa"))) {
+            throw new IllegalStateException("CDS archive missing, run: mvn -Pfast-startup package -DskipTests");
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstSuccessfulRequest() throws Exception {
+        int port = freePort();
+        process = launch(port);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/products"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (ConnectException ex) {
+                // not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful request within " + STARTUP_TIMEOUT);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private Process launch(int port) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>(List.of(java));
+        File workingDirectory;
+        if ("fast-startup".equals(mode)) {
+            workingDirectory = target.resolve("cds").toFile();
+            command.addAll(List.of(
+                    "-XX:SharedArchiveFile=application.jsa",
+                    "-Dspring.aot.enabled=true",
+                    "-Dspring.profiles.active=fast-startup",
+                    "-jar", "springboot-cicd-api-1.0.0.jar"));
+        } else {
+            workingDirectory = target.toFile();
+            command.addAll(List.of("-jar", "springboot-cicd-api-1.0.0.jar"));
+        }
+        command.add("--server.port=" + port);
+        command.add("--app.changelog.directory=" + Files.createTempDirectory("startup-bench"));
+        return new ProcessBuilder(command)
+                .directory(workingDirectory)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.devops.api.bulk;
+
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Product Bulk Operations Integration Tests (Full Spring Context + H2)")
+class ProductBulkIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductCatalogIndex catalogIndex;
+
+    @BeforeEach
+    void seed() {
+        productRepository.saveAll(List.of(
+                product("Novel", "19.99", 3, "Books"),
+                product("Atlas", "10.05", 12, "Books"),
+                product("Cookbook", "25.00", 0, "Books"),
+                product("Cable", "9.99", 2, "Accessories"),
+                product("Case", "14.50", 40, "Accessories")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /bulk/reprice - Dry run should count matches and change nothing")
+    void reprice_DryRun_ShouldOnlyCount() throws Exception {
+        mockMvc.perform(post("/api/v1/products/bulk/reprice").param("dryRun", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {\"category\": \"Books\"}, \"percent\": -10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.dryRun", is(true)))
+                .andExpect(jsonPath("$.data.matched", is(3)))
+                .andExpect(jsonPath("$.data.affected", is(0)));
+
+        assertThat(byName().get("Novel").getPrice()).isEqualByComparingTo("19.99");
+    }
+
+    @Test
+    @DisplayName("POST /bulk/reprice - Should discount only matches and publish the new prices")
+    void reprice_ShouldChangeMatchingPrices_AndPublishEvents() throws Exception {
+        mockMvc.perform(post("/api/v1/products/bulk/reprice")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {\"category\": \"Books\", \"maxPrice\": 20}, \"percent\": -10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.affected", is(2)));
+
+        Map<String, Product> products = byName();
+        assertThat(products.get("Novel").getPrice()).isEqualByComparingTo("17.99");
+        assertThat(products.get("Atlas").getPrice()).isEqualByComparingTo("9.05");
+        assertThat(products.get("Cookbook").getPrice()).isEqualByComparingTo("25.00");
+        assertThat(products.get("Novel").getVersion()).isEqualTo(1L);
+        // The published after-state must agree with what the database computed
+        for (String name : List.of("Novel", "Atlas")) {
+            Product stored = products.get(name);
+            assertThat(catalogIndex.get(stored.getId()).price()).isEqualByComparingTo(stored.getPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("POST /bulk/restock - Should set quantity of matches selected by stock status")
+    void restock_ShouldSetQuantity_ByStockStatus() throws Exception {
+        mockMvc.perform(post("/api/v1/products/bulk/restock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {\"stockStatus\": \"LOW_STOCK\"}, \"quantity\": 25}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.affected", is(2)));
+
+        Map<String, Product> products = byName();
+        assertThat(products.get("Novel").getQuantity()).isEqualTo(25);
+        assertThat(products.get("Cable").getQuantity()).isEqualTo(25);
+        assertThat(products.get("Cookbook").getQuantity()).isZero();
+        assertThat(catalogIndex.get(products.get("Cable").getId()).quantity()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("POST /bulk/delete - Should delete matches and reject an empty filter")
+    void delete_ShouldDeleteMatches_AndRejectEmptyFilter() throws Exception {
+        mockMvc.perform(post("/api/v1/products/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {}}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/products/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\": {\"category\": \"Accessories\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.affected", is(2)));
+
+        assertThat(byName()).containsOnlyKeys("Novel", "Atlas", "Cookbook");
+    }
+
+    private Map<String, Product> byName() {
+        return productRepository.findAll().stream()
+                .collect(Collectors.toMap(Product::getName, Function.identity()));
+    }
+
+    private static Product product(String name, String price, int quantity, String category) {
+        return Product.builder()
+                .name(name).price(new BigDecimal(price)).quantity(quantity).category(category)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.devops.api.cache;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Missing Id Cache Unit Tests")
+class MissingIdCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private MissingIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MissingIdProperties properties = new MissingIdProperties();
+        properties.setMaxEntries(1_000);
+        properties.setTtl(Duration.ofSeconds(30));
+        cache = new MissingIdCache(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    @DisplayName("isMissing - Should remember an id until the TTL expires")
+    void isMissing_ShouldHit_UntilTtlExpires() {
+        cache.recordMissing(42L, cache.epoch());
+
+        assertThat(cache.isMissing(42L)).isTrue();
+        assertThat(cache.isMissing(43L)).isFalse();
+        assertThat(cache.capacity()).isEqualTo(1_024);
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(cache.isMissing(42L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("onProductChange - Should forget an id once a product is created with it")
+    void onProductChange_ShouldInvalidate_WhenCreated() {
+        cache.recordMissing(42L, cache.epoch());
+        LocalDateTime now = LocalDateTime.now();
+
+        cache.onProductChange(ProductChangeEvent.created(new ProductSnapshot(
+                42L, "Widget", null, new BigDecimal("9.99"), 5, "Tools", now, now)));
+
+        assertThat(cache.isMissing(42L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("recordMissing - Should ignore results of lookups that raced a create")
+    void recordMissing_ShouldIgnore_WhenInvalidatedDuringLookup() {
+        long epoch = cache.epoch();
+        cache.invalidate(42L);
+
+        cache.recordMissing(42L, epoch);
+
+        assertThat(cache.isMissing(42L)).isFalse();
+    }
+}
@@ -0,0 +1,142 @@
+package com.devops.api.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Stale-While-Revalidate Cache Unit Tests")
+class StaleWhileRevalidateCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private StaleWhileRevalidateCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StaleWhileRevalidateCache<>(Duration.ofSeconds(5), Duration.ofSeconds(60), 10,
+                pendingRefreshes::add, clock::get);
+    }
+
+    @Test
+    @DisplayName("get - Should serve from cache within the soft TTL")
+    void get_ShouldHit_WithinSoftTtl() {
+        cache.get("k", this::load);
+        advance(Duration.ofSeconds(4));
+
+        CachedResult<String> result = cache.get("k", this::load);
+
+        assertThat(result.status()).isEqualTo(CachedResult.CacheStatus.HIT);
+        assertThat(result.value()).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("get - Should serve stale immediately and refresh once in the background")
+    void get_ShouldServeStale_AndRefreshInBackground() {
+        cache.get("k", this::load);
+        advance(Duration.ofSeconds(10));
+
+        CachedResult<String> first = cache.get("k", this::load);
+        CachedResult<String> second = cache.get("k", this::load);
+
+        assertThat(first.status()).isEqualTo(CachedResult.CacheStatus.STALE);
+        assertThat(first.value()).isEqualTo("v1");
+        assertThat(first.age()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(second.status()).isEqualTo(CachedResult.CacheStatus.STALE);
+        assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.get(0).run();
+        assertThat(cache.get("k", this::load).value()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("get - Should keep serving stale data when the refresh fails")
+    void get_ShouldKeepStale_WhenRefreshFails() {
+        cache.get("k", this::load);
+        advance(Duration.ofSeconds(10));
+
+        cache.get("k", () -> {
+            throw new IllegalStateException("pool exhausted");
+        });
+        pendingRefreshes.remove(0).run();
+
+        CachedResult<String> result = cache.get("k", this::load);
+        assertThat(result.status()).isEqualTo(CachedResult.CacheStatus.STALE);
+        assertThat(result.value()).isEqualTo("v1");
+        assertThat(cache.refreshFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get - Should load synchronously past the hard TTL")
+    void get_ShouldLoadSynchronously_PastHardTtl() {
+        cache.get("k", this::load);
+        advance(Duration.ofSeconds(61));
+
+        CachedResult<String> result = cache.get("k", this::load);
+
+        assertThat(result.status()).isEqualTo(CachedResult.CacheStatus.MISS);
+        assertThat(result.value()).isEqualTo("v2");
+        assertThat(pendingRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("invalidate - Should force the next read to load")
+    void invalidate_ShouldForceReload() {
+        cache.get("k", this::load);
+        cache.invalidate("k");
+
+        assertThat(cache.get("k", this::load).status()).isEqualTo(CachedResult.CacheStatus.MISS);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("get - Should not cache a load that overlapped an invalidation")
+    void get_ShouldNotCacheLoad_WhenInvalidatedWhileLoading() {
+        // The write commits and evicts while the read is still in the database
+        CachedResult<String> raced = cache.get("k", () -> {
+            String value = load();
+            cache.invalidate("k");
+            return value;
+        });
+
+        assertThat(raced.status()).isEqualTo(CachedResult.CacheStatus.MISS);
+        assertThat(raced.value()).isEqualTo("v1");
+        assertThat(cache.size()).isZero();
+
+        CachedResult<String> next = cache.get("k", this::load);
+        assertThat(next.status()).isEqualTo(CachedResult.CacheStatus.MISS);
+        assertThat(next.value()).isEqualTo("v2");
+        assertThat(cache.get("k", this::load).status()).isEqualTo(CachedResult.CacheStatus.HIT);
+    }
+
+    @Test
+    @DisplayName("prime - Should serve the seeded value once and revalidate it in the background")
+    void prime_ShouldServeSeededValueAsStale() {
+        cache.prime("k", "seeded");
+
+        CachedResult<String> result = cache.get("k", this::load);
+
+        assertThat(result.status()).isEqualTo(CachedResult.CacheStatus.STALE);
+        assertThat(result.value()).isEqualTo("seeded");
+        assertThat(loads).hasValue(0);
+        pendingRefreshes.forEach(Runnable::run);
+        assertThat(cache.get("k", this::load).value()).isEqualTo("v1");
+    }
+
+    private String load() {
+        return "v" + loads.incrementAndGet();
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
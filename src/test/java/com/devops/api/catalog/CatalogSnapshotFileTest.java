@@ -0,0 +1,106 @@
+package com.devops.api.catalog;
+
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Catalog Snapshot File Unit Tests")
+class CatalogSnapshotFileTest {
+
+    private static final Instant TAKEN_AT = Instant.parse("2024-05-01T10:15:30Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("write/read - Should round-trip the catalog")
+    void writeAndRead_ShouldRoundTrip() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        List<ProductSnapshot> products = LongStream.rangeClosed(1, 5_000)
+                .mapToObj(id -> snapshot(id, "Product " + id, (int) (id % 7)))
+                .toList();
+
+        CatalogSnapshotFile.write(path, TAKEN_AT, products);
+        CatalogSnapshotFile.Contents contents = CatalogSnapshotFile.read(path).orElseThrow();
+
+        assertThat(contents.takenAt()).isEqualTo(TAKEN_AT);
+        assertThat(contents.products()).hasSize(5_000);
+        assertThat(contents.products().get(41)).isEqualTo(products.get(41));
+        assertThat(contents.products().get(0).description()).isNull();
+    }
+
+    @Test
+    @DisplayName("reconcile - Should not re-apply a row that differs from the snapshot only below a millisecond")
+    void reconcile_ShouldSkipRow_WhenOnlySubMillisecondsDiffer() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        ProductSnapshot fromDatabase = snapshot(1L, "Laptop", 3);
+        LocalDateTime precise = fromDatabase.updatedAt().plusNanos(123_456_000);
+        fromDatabase = new ProductSnapshot(fromDatabase.id(), fromDatabase.name(), fromDatabase.description(),
+                fromDatabase.price(), fromDatabase.quantity(), fromDatabase.category(),
+                fromDatabase.createdAt().plusNanos(987_654_000), precise);
+        CatalogSnapshotFile.write(path, TAKEN_AT, List.of(fromDatabase));
+
+        ProductCatalogIndex index = new ProductCatalogIndex(new SimpleMeterRegistry());
+        index.load(CatalogSnapshotFile.read(path).orElseThrow().products());
+        index.beginReconcile();
+
+        assertThat(index.get(1L).updatedAt()).isNotEqualTo(precise);
+        assertThat(index.reconcile(fromDatabase)).isFalse();
+        assertThat(index.reconcile(new ProductSnapshot(1L, "Laptop", null, new BigDecimal("19.99"), 4,
+                fromDatabase.category(), fromDatabase.createdAt(), precise.plusNanos(1_000_000)))).isTrue();
+        index.endReconcile();
+    }
+
+    @Test
+    @DisplayName("read - Should ignore a file with a flipped byte")
+    void read_ShouldReturnEmpty_WhenChecksumDoesNotMatch() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(path, TAKEN_AT, List.of(snapshot(1L, "Laptop", 3)));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), CatalogSnapshotFile.HEADER_SIZE + 10);
+        }
+
+        assertThat(CatalogSnapshotFile.read(path)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("read - Should ignore a file written by another format version")
+    void read_ShouldReturnEmpty_WhenVersionIsUnknown() throws IOException {
+        Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshotFile.write(path, TAKEN_AT, List.of(snapshot(1L, "Laptop", 3)));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(2).putShort(0, (short) 99), 4);
+        }
+
+        assertThat(CatalogSnapshotFile.read(path)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("read - Should return empty when there is no snapshot yet")
+    void read_ShouldReturnEmpty_WhenFileIsMissing() throws IOException {
+        assertThat(CatalogSnapshotFile.read(directory.resolve("missing.snapshot"))).isEmpty();
+    }
+
+    private static ProductSnapshot snapshot(long id, String name, int quantity) {
+        LocalDateTime time = LocalDateTime.of(2024, 5, 1, 10, 0).plusSeconds(id);
+        return new ProductSnapshot(id, name, id % 2 == 0 ? "Description " + id : null,
+                new BigDecimal("19.99"), quantity, "Category " + (id % 10), time, time);
+    }
+}
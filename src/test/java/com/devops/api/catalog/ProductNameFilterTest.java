@@ -0,0 +1,73 @@
+package com.devops.api.catalog;
+
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product Name Filter Unit Tests")
+class ProductNameFilterTest {
+
+    private ProductCatalogIndex index;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductNameFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new ProductCatalogIndex(meterRegistry);
+        filter = new ProductNameFilter(new NameFilterProperties(), index, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("mightContain - Should report every name as possibly present until the index is loaded")
+    void mightContain_ShouldBeTrue_BeforeIndexLoaded() {
+        assertThat(filter.mightContain("anything")).isTrue();
+    }
+
+    @Test
+    @DisplayName("mightContain - Should never miss a loaded name, ignoring case")
+    void mightContain_ShouldFindLoadedNames_IgnoringCase() {
+        load(IntStream.rangeClosed(1, 1_000).mapToObj(id -> snapshot(id, "Product " + id)).toList());
+
+        assertThat(IntStream.rangeClosed(1, 1_000))
+                .allMatch(id -> filter.mightContain("PRODUCT " + id));
+        long falsePositives = IntStream.rangeClosed(1, 10_000)
+                .filter(id -> filter.mightContain("Missing " + id))
+                .count();
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(meterRegistry.get("products.name-filter.queries-saved").counter().count())
+                .isEqualTo(10_000 - falsePositives);
+    }
+
+    @Test
+    @DisplayName("onChange - Should follow renames and deletes")
+    void onChange_ShouldTrackRenamesAndDeletes() {
+        load(List.of(snapshot(1, "Old Name"), snapshot(2, "Doomed")));
+
+        filter.onChange(snapshot(1, "Old Name"), snapshot(1, "New Name"));
+        filter.onChange(snapshot(2, "Doomed"), null);
+
+        assertThat(filter.mightContain("new name")).isTrue();
+        assertThat(filter.mightContain("old name")).isFalse();
+        assertThat(filter.mightContain("doomed")).isFalse();
+    }
+
+    private void load(List<ProductSnapshot> products) {
+        index.load(products);
+        index.markLoaded();
+    }
+
+    private static ProductSnapshot snapshot(long id, String name) {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 10, 0);
+        return new ProductSnapshot(id, name, null, new BigDecimal("9.99"), 5, "General", now, now);
+    }
+}
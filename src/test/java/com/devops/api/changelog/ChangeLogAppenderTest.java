@@ -0,0 +1,85 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.model.ProductChangeOutbox;
+import com.devops.api.repository.ProductChangeOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Change Log Appender Unit Tests")
+class ChangeLogAppenderTest {
+
+    @TempDir
+    Path directory;
+
+    private ChangeLog changeLog;
+    private ProductChangeOutboxRepository outbox;
+    private ChangeLogAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = spy(new ChangeLog(directory, 64 * 1024, 4, Duration.ofDays(1)));
+        outbox = mock(ProductChangeOutboxRepository.class);
+        // The writer thread is never started; drainOnce is driven by the test
+        appender = new ChangeLogAppender(changeLog, new ChangeLogProperties(), outbox,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("drainOnce - Should keep the failed row and the rest of the batch for the next pass")
+    void drainOnce_ShouldRetryRemainder_WhenAppendFails() {
+        List<ProductChangeOutbox> rows = List.of(row(1, "Alpha"), row(2, "Beta"), row(3, "Gamma"));
+        when(outbox.lockPending(any(Pageable.class))).thenReturn(rows, rows.subList(1, 3));
+        doThrow(new IllegalStateException("disk full")).doCallRealMethod()
+                .when(changeLog).append(argThat(event -> event.after().name().equals("Beta")));
+
+        assertThat(appender.drainOnce()).isEqualTo(-1);
+        verify(outbox).deleteAllInBatch(List.of(rows.get(0)));
+
+        assertThat(appender.drainOnce()).isEqualTo(2);
+        verify(outbox).deleteAllInBatch(rows.subList(1, 3));
+
+        List<String> names = new ArrayList<>();
+        changeLog.replay(0, 10, record -> names.add(record.toEvent().after().name()));
+        assertThat(names).containsExactly("Alpha", "Beta", "Gamma");
+    }
+
+    @Test
+    @DisplayName("drainOnce - Should discard an undecodable row instead of blocking the outbox")
+    void drainOnce_ShouldSkipCorruptRow() {
+        ProductChangeOutbox corrupt = ProductChangeOutbox.builder().id(1L).payload(new byte[]{1, 2, 3}).build();
+        ProductChangeOutbox good = row(2, "Alpha");
+        when(outbox.lockPending(any(Pageable.class))).thenReturn(List.of(corrupt, good));
+
+        assertThat(appender.drainOnce()).isEqualTo(2);
+
+        verify(outbox).deleteAllInBatch(List.of(corrupt, good));
+        assertThat(changeLog.nextOffset()).isEqualTo(1);
+    }
+
+    private static ProductChangeOutbox row(long id, String name) {
+        LocalDateTime now = LocalDateTime.now();
+        ProductSnapshot product = new ProductSnapshot(id, name, null, new BigDecimal("9.99"), 5, "Books", now, now);
+        return ProductChangeOutbox.builder()
+                .id(id)
+                .payload(ChangeRecordCodec.toBytes(ProductChangeEvent.created(product)))
+                .build();
+    }
+}
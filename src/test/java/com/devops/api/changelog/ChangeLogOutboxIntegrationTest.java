@@ -0,0 +1,84 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.model.ProductChangeOutbox;
+import com.devops.api.repository.ProductChangeOutboxRepository;
+import com.devops.api.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+// Own database: writers of other cached test contexts would otherwise drain these rows into their logs
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:outboxtest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+@DisplayName("Change Log Outbox Integration Tests (Full Spring Context + H2)")
+class ChangeLogOutboxIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductChangeOutboxRepository outbox;
+    @Autowired private ChangeLog changeLog;
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /products - A committed create should pass through the outbox into the log")
+    void create_ShouldBeAppendedThroughOutbox() throws Exception {
+        long from = changeLog.nextOffset();
+
+        mockMvc.perform(post("/api/v1/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Outbox Lamp\",\"price\":24.99,\"quantity\":4,\"category\":\"Home\"}"))
+                .andExpect(status().isCreated());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> names(from).contains("Outbox Lamp"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> outbox.count() == 0);
+    }
+
+    @Test
+    @DisplayName("drain - Should append rows a previous run committed but never appended")
+    void drain_ShouldPickUpLeftoverRows() {
+        long from = changeLog.nextOffset();
+        LocalDateTime now = LocalDateTime.now();
+        ProductSnapshot orphan = new ProductSnapshot(9_001L, "Outbox Orphan", null,
+                new BigDecimal("3.50"), 1, "Home", now, now);
+
+        // As if the process died between the commit and the append
+        outbox.save(ProductChangeOutbox.builder()
+                .payload(ChangeRecordCodec.toBytes(ProductChangeEvent.created(orphan)))
+                .build());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> names(from).contains("Outbox Orphan"));
+        assertThat(outbox.count()).isZero();
+    }
+
+    private List<String> names(long from) {
+        List<String> names = new ArrayList<>();
+        changeLog.replay(from, 1000, record -> names.add(record.toEvent().current().name()));
+        return names;
+    }
+}
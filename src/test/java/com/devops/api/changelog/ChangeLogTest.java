@@ -0,0 +1,126 @@
+package com.devops.api.changelog;
+
+import com.devops.api.event.ChangeType;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Change Log Unit Tests")
+class ChangeLogTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("append/replay - Should round-trip events with dense offsets")
+    void appendAndReplay_ShouldRoundTrip() {
+        ChangeLog log = open(16);
+
+        ProductSnapshot laptop = snapshot(1L, "Laptop", 10);
+        assertThat(log.append(ProductChangeEvent.created(laptop))).isZero();
+        assertThat(log.append(ProductChangeEvent.updated(laptop, snapshot(1L, "Laptop", 3)))).isEqualTo(1);
+        assertThat(log.append(ProductChangeEvent.deleted(laptop))).isEqualTo(2);
+
+        List<ProductChangeEvent> events = new ArrayList<>();
+        long next = log.replay(0, 100, record -> events.add(record.toEvent()));
+
+        assertThat(next).isEqualTo(3);
+        assertThat(events).extracting(ProductChangeEvent::type)
+                .containsExactly(ChangeType.CREATED, ChangeType.STOCK_CHANGED, ChangeType.DELETED);
+        assertThat(events.get(1).before().quantity()).isEqualTo(10);
+        assertThat(events.get(1).after().quantity()).isEqualTo(3);
+        assertThat(events.get(0).after().price()).isEqualByComparingTo("19.99");
+        assertThat(events.get(0).after().description()).isNull();
+    }
+
+    @Test
+    @DisplayName("replay - Should start from an arbitrary offset across segments")
+    void replay_ShouldStartFromOffset_AcrossSegments() {
+        ChangeLog log = open(100);
+        for (long i = 0; i < 2_000; i++) {
+            log.append(ProductChangeEvent.created(snapshot(i, "Product " + i, 1)));
+        }
+        assertThat(log.segmentCount()).isGreaterThan(1);
+
+        List<Long> offsets = new ArrayList<>();
+        long next = log.replay(1_234, 5, record -> offsets.add(record.offset()));
+
+        assertThat(offsets).containsExactly(1_234L, 1_235L, 1_236L, 1_237L, 1_238L);
+        assertThat(next).isEqualTo(1_239);
+    }
+
+    @Test
+    @DisplayName("open - Should recover offsets and ignore a torn tail")
+    void open_ShouldRecover_AndIgnoreCorruptTail() throws IOException {
+        ChangeLog log = open(16);
+        log.append(ProductChangeEvent.created(snapshot(1L, "Keyboard", 5)));
+        log.append(ProductChangeEvent.created(snapshot(2L, "Mouse", 5)));
+        log.close();
+
+        // Simulate a partially written third record after the two valid ones
+        Path segment = directory.resolve(LogSegment.fileName(0));
+        int end = endOfData();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3, 4}), end);
+        }
+
+        ChangeLog reopened = open(16);
+        assertThat(reopened.nextOffset()).isEqualTo(2);
+        assertThat(reopened.append(ProductChangeEvent.created(snapshot(3L, "Monitor", 5)))).isEqualTo(2);
+
+        List<Long> ids = new ArrayList<>();
+        reopened.replay(0, 10, record -> ids.add(record.productId()));
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("retention - Should delete the oldest segments beyond the limit")
+    void retention_ShouldDeleteOldestSegments() throws IOException {
+        ChangeLog log = open(2);
+        for (long i = 0; i < 3_000; i++) {
+            log.append(ProductChangeEvent.created(snapshot(i, "Product " + i, 1)));
+        }
+
+        assertThat(log.segmentCount()).isLessThanOrEqualTo(2);
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(log.segmentCount());
+        }
+        List<Long> offsets = new ArrayList<>();
+        log.replay(0, 1, record -> offsets.add(record.offset()));
+        assertThat(offsets).containsExactly(log.firstOffset());
+    }
+
+    private ChangeLog open(int maxSegments) {
+        return new ChangeLog(directory, SEGMENT_SIZE, maxSegments, Duration.ofDays(1));
+    }
+
+    private int endOfData() {
+        ChangeLog probe = open(16);
+        int[] end = {0};
+        probe.replay(0, Integer.MAX_VALUE, record -> end[0] += record.size());
+        return end[0];
+    }
+
+    private static ProductSnapshot snapshot(Long id, String name, int quantity) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return new ProductSnapshot(id, name, null, new BigDecimal("19.99"), quantity, "Electronics", now, now);
+    }
+}
@@ -1,6 +1,7 @@
 package com.devops.api.controller;
 
 import com.devops.api.dto.ProductDTO;
+import com.devops.api.exception.PreconditionFailedException;
 import com.devops.api.exception.ResourceNotFoundException;
 import com.devops.api.model.Product;
 import com.devops.api.service.ProductService;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -180,6 +182,48 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.message", is("Product updated successfully")));
     }
 
+    @Test
+    @DisplayName("PATCH /products/{id} - 200 with the new version as ETag")
+    void patch_Returns200_WithETag() throws Exception {
+        Product patched = Product.builder().id(1L).name("Test Product")
+                .price(new BigDecimal("79.99")).quantity(10).category("Electronics").version(4L).build();
+
+        when(productService.patchProduct(eq(1L), any(), eq(3L))).thenReturn(patched);
+
+        mockMvc.perform(patch("/api/v1/products/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 79.99}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.data.price", is(79.99)));
+    }
+
+    @Test
+    @DisplayName("PATCH /products/{id} - 412 when If-Match is stale")
+    void patch_Returns412_WhenVersionStale() throws Exception {
+        when(productService.patchProduct(eq(1L), any(), eq(2L)))
+                .thenThrow(new PreconditionFailedException("Product 1 is at version 3, not 2"));
+
+        mockMvc.perform(patch("/api/v1/products/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 5}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.success", is(false)));
+    }
+
+    @Test
+    @DisplayName("PATCH /products/{id} - 400 when a provided field is invalid")
+    void patch_Returns400_WhenNameBlank() throws Exception {
+        mockMvc.perform(patch("/api/v1/products/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"   \"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(productService);
+    }
+
     // ─── DELETE ───────────────────────────────────────────────────────────────
 
     @Test
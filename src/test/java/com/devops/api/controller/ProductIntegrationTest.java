@@ -7,6 +7,7 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -104,6 +105,8 @@ class ProductIntegrationTest {
     void inStock_Returns200() throws Exception {
         mockMvc.perform(get("/api/v1/products/in-stock"))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("Age"))
+                .andExpect(header().string("X-Cache-Status", oneOf("MISS", "HIT", "STALE")))
                 .andExpect(jsonPath("$.success", is(true)));
     }
 
@@ -129,6 +132,49 @@ class ProductIntegrationTest {
     }
 
     @Test @Order(8)
+    @DisplayName("GET /analytics/inventory - Aggregates the streamed catalog")
+    void inventoryReport_Returns200_WithTotals() throws Exception {
+        Assumptions.assumeTrue(createdId != null);
+
+        mockMvc.perform(get("/api/v1/products/analytics/inventory").param("top", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products", is(1)))
+                .andExpect(jsonPath("$.data.inventoryValue", is(35999.70)))
+                .andExpect(jsonPath("$.data.categories[0].category", is("Electronics")))
+                .andExpect(jsonPath("$.data.topByValue[0].name", is("Integration Test Laptop")));
+    }
+
+    @Test @Order(9)
+    @DisplayName("PATCH /{id} - Honors If-Match and bumps the version")
+    void patch_Returns412ForStaleVersion_Then200() throws Exception {
+        Assumptions.assumeTrue(createdId != null);
+
+        String etag = mockMvc.perform(get("/api/v1/products/" + createdId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        long version = Long.parseLong(etag.replace("\"", ""));
+
+        mockMvc.perform(patch("/api/v1/products/" + createdId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + (version - 1) + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 25}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/v1/products/" + createdId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 25}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+                .andExpect(jsonPath("$.data.quantity", is(25)))
+                .andExpect(jsonPath("$.data.price", is(1199.99)));
+
+        mockMvc.perform(get("/api/v1/products/" + createdId))
+                .andExpect(jsonPath("$.data.quantity", is(25)))
+                .andExpect(jsonPath("$.data.description", is("Updated description")));
+    }
+
+    @Test @Order(10)
     @DisplayName("POST - Duplicate name returns 409 Conflict")
     void create_Returns409_WhenDuplicateName() throws Exception {
         ProductDTO dto = ProductDTO.builder()
@@ -143,7 +189,7 @@ class ProductIntegrationTest {
                 .andExpect(jsonPath("$.success", is(false)));
     }
 
-    @Test @Order(9)
+    @Test @Order(11)
     @DisplayName("GET /{id} - Non-existent ID returns 404")
     void getById_Returns404_ForMissingId() throws Exception {
         mockMvc.perform(get("/api/v1/products/99999"))
@@ -151,7 +197,7 @@ class ProductIntegrationTest {
                 .andExpect(jsonPath("$.success", is(false)));
     }
 
-    @Test @Order(10)
+    @Test @Order(12)
     @DisplayName("DELETE /{id} - Delete and confirm removal")
     void delete_Returns200_ThenGone() throws Exception {
         Assumptions.assumeTrue(createdId != null);
@@ -166,7 +212,7 @@ class ProductIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
-    @Test @Order(11)
+    @Test @Order(13)
     @DisplayName("GET /health - Returns UP status")
     void health_ReturnsUp() throws Exception {
         mockMvc.perform(get("/api/v1/health"))
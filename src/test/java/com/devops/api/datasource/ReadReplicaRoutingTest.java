@@ -0,0 +1,131 @@
+package com.devops.api.datasource;
+
+import com.devops.api.dto.ProductDTO;
+import com.devops.api.model.Product;
+import com.devops.api.service.ProductService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.servlet.http.Cookie;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two in-memory H2 databases stand in for primary and replica. The replica
+ * holds a row the primary does not, which shows where each read was served from.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=",
+        "app.datasource.replica.driver-class-name=org.h2.Driver",
+        "app.datasource.replica.lag-query=SELECT 0",
+        "app.datasource.replica.read-your-writes-window=30s"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("Read Replica Routing Tests (two H2 databases)")
+class ReadReplicaRoutingTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ProductService productService;
+    @Autowired private ReplicaLagGuard guard;
+    @Autowired @Qualifier("replicaDataSource") private DataSource replicaDataSource;
+
+    @BeforeAll
+    static void seedReplica(@Autowired @Qualifier("replicaDataSource") DataSource replica) {
+        JdbcTemplate jdbc = new JdbcTemplate(replica);
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS products (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(100) NOT NULL UNIQUE,
+                    description VARCHAR(500), price DECIMAL(10, 2) NOT NULL, quantity INTEGER NOT NULL,
+                    category VARCHAR(100) NOT NULL, created_at TIMESTAMP, updated_at TIMESTAMP,
+                    version BIGINT NOT NULL DEFAULT 0)""");
+        jdbc.update("INSERT INTO products (name, price, quantity, category) VALUES ('Replica Only', 10.00, 1, 'Books')");
+    }
+
+    @Test @Order(1)
+    @DisplayName("readOnly transaction - Served by the replica")
+    void readOnly_UsesReplica() {
+        List<Product> products = productService.getAllProducts();
+
+        assertThat(products).extracting(Product::getName).containsExactly("Replica Only");
+    }
+
+    @Test @Order(2)
+    @DisplayName("write then read - Write goes to primary and the follow-up read stays there")
+    void readAfterWrite_UsesPrimary() {
+        Product created = productService.createProduct(ProductDTO.builder()
+                .name("Primary Only").price(new BigDecimal("20.00")).quantity(2).category("Books").build());
+
+        assertThat(guard.decide()).isEqualTo(ReplicaLagGuard.Decision.RECENT_WRITE);
+        assertThat(productService.getProductById(created.getId()).getName()).isEqualTo("Primary Only");
+        assertThat(productService.getAllProducts()).extracting(Product::getName).containsExactly("Primary Only");
+        assertThat(new JdbcTemplate(replicaDataSource)
+                .queryForObject("SELECT COUNT(*) FROM products WHERE name = 'Primary Only'", Integer.class))
+                .isZero();
+    }
+
+    @Test @Order(3)
+    @DisplayName("write on one thread - Another thread that has not written still reads from the replica")
+    void readOnOtherThread_UsesReplica() {
+        guard.recordWrite();
+
+        List<Product> elsewhere = CompletableFuture.supplyAsync(productService::getAllProducts).join();
+
+        assertThat(elsewhere).extracting(Product::getName).containsExactly("Replica Only");
+        assertThat(productService.getAllProducts()).extracting(Product::getName).containsExactly("Primary Only");
+    }
+
+    @Test @Order(4)
+    @DisplayName("write over HTTP - The writer's cookie keeps its next request on the primary, others read the replica")
+    void readAfterWriteCookie_UsesPrimaryForWriterOnly() throws Exception {
+        guard.clearLastWrite();
+        Cookie lastWrite = mockMvc.perform(post("/api/v1/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Cookie Writer\",\"price\":5.00,\"quantity\":1,\"category\":\"Books\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        mockMvc.perform(get("/api/v1/products").cookie(lastWrite))
+                .andExpect(jsonPath("$.data[*].name", hasItem("Cookie Writer")));
+        mockMvc.perform(get("/api/v1/products"))
+                .andExpect(jsonPath("$.data[*].name", contains("Replica Only")));
+    }
+
+    @Test @Order(5)
+    @DisplayName("unhealthy replica - Reads fall back to primary")
+    void unhealthyReplica_FallsBackToPrimary() {
+        guard.markUnhealthy(new SQLException("simulated outage"));
+
+        assertThat(guard.decide()).isEqualTo(ReplicaLagGuard.Decision.UNHEALTHY);
+        assertThat(productService.getAllProducts()).extracting(Product::getName)
+                .containsExactly("Primary Only", "Cookie Writer");
+    }
+}
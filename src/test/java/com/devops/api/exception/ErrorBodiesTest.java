@@ -0,0 +1,39 @@
+package com.devops.api.exception;
+
+import com.devops.api.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Error Bodies Unit Tests")
+class ErrorBodiesTest {
+
+    // Spring Boot's default: ISO-8601 strings rather than timestamp arrays
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("encode - Should match the Jackson serialization of ApiResponse.error")
+    void encode_ShouldMatchJackson() throws Exception {
+        String message = "Product already exists with name: \"Café\" \\ 50% off\n";
+        for (LocalDateTime timestamp : new LocalDateTime[] {
+                LocalDateTime.of(2024, 5, 1, 10, 15),
+                LocalDateTime.of(2024, 5, 1, 10, 15, 30, 120_000_000)}) {
+            ApiResponse<Object> response = ApiResponse.builder()
+                    .success(false)
+                    .message(message)
+                    .timestamp(timestamp)
+                    .build();
+
+            assertThat(new String(ErrorBodies.encode(message, timestamp)))
+                    .isEqualTo(objectMapper.writeValueAsString(response));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.devops.api.idempotency;
+
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Idempotency Key Integration Tests (Full Spring Context + H2)")
+class IdempotencyIntegrationTest {
+
+    private static final String HEADPHONES =
+            "{\"name\":\"Idempotent Headphones\",\"price\":99.99,\"quantity\":5,\"category\":\"Audio\"}";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /products - A retry with the same key should replay the 201 instead of a 409")
+    void create_Retry_ShouldReplayFirstResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        double replaysBefore = replays("stored");
+
+        MvcResult first = mockMvc.perform(post("/api/v1/products")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(HEADPHONES))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn();
+
+        mockMvc.perform(post("/api/v1/products")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(HEADPHONES))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().string(first.getResponse().getContentAsString()));
+
+        assertThat(productRepository.count()).isEqualTo(1);
+        assertThat(replays("stored")).isEqualTo(replaysBefore + 1);
+
+        // Without a key the same body is an ordinary second create
+        mockMvc.perform(post("/api/v1/products")
+                        .contentType(MediaType.APPLICATION_JSON).content(HEADPHONES))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("PUT /products/{id} - A replay should carry the stored ETag")
+    void update_Retry_ShouldReplayETag() throws Exception {
+        Long id = productRepository.save(Product.builder()
+                .name("Idempotent Speaker").price(new BigDecimal("49.99"))
+                .quantity(3).category("Audio").build()).getId();
+        String key = UUID.randomUUID().toString();
+        String update = "{\"name\":\"Idempotent Speaker\",\"price\":44.99,\"quantity\":3,\"category\":\"Audio\"}";
+
+        String eTag = mockMvc.perform(put("/api/v1/products/" + id)
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(update))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/v1/products/" + id)
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(update))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        assertThat(productRepository.findById(id).orElseThrow().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("POST /products - Reusing a key for a different body should be rejected with 422")
+    void create_KeyReusedForDifferentBody_ShouldReturn422() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/api/v1/products")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON).content(HEADPHONES))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/v1/products")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(HEADPHONES.replace("Headphones", "Earbuds")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.success", is(false)));
+
+        assertThat(productRepository.count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("products.idempotency.collisions", "reason", "payload-mismatch").count())
+                .isPositive();
+    }
+
+    private double replays(String source) {
+        return meterRegistry.counter("products.idempotency.replays", "source", source).count();
+    }
+}
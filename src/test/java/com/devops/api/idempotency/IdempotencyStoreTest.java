@@ -0,0 +1,88 @@
+package com.devops.api.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Idempotency Store Unit Tests")
+class IdempotencyStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(2, Duration.ofSeconds(10), clock::get);
+    }
+
+    @Test
+    @DisplayName("claim - Should hand waiters the owner's response and replay it afterwards")
+    void claim_ShouldCollapseAndReplay() {
+        IdempotencyStore.Claim first = store.claim("k1", "create");
+        IdempotencyStore.Claim second = store.claim("k1", "create");
+
+        assertThat(first).isInstanceOf(IdempotencyStore.Owner.class);
+        assertThat(second).isInstanceOf(IdempotencyStore.InFlight.class);
+        assertThat(store.claim("k1", "update")).isInstanceOf(IdempotencyStore.Mismatch.class);
+
+        StoredResponse created = response(201);
+        store.complete(((IdempotencyStore.Owner) first).entry(), created);
+
+        assertThat(((IdempotencyStore.InFlight) second).response()).isCompletedWithValue(created);
+        assertThat(store.claim("k1", "create"))
+                .isEqualTo(new IdempotencyStore.Replay(created));
+    }
+
+    @Test
+    @DisplayName("abandon - Should release waiters with null and let the next claim own the key")
+    void abandon_ShouldLetKeyBeClaimedAgain() {
+        IdempotencyStore.Owner owner = (IdempotencyStore.Owner) store.claim("k1", "create");
+        IdempotencyStore.InFlight waiter = (IdempotencyStore.InFlight) store.claim("k1", "create");
+
+        store.abandon(owner.entry());
+
+        assertThat(waiter.response()).isCompletedWithValue(null);
+        assertThat(store.claim("k1", "create")).isInstanceOf(IdempotencyStore.Owner.class);
+    }
+
+    @Test
+    @DisplayName("claim - Should expire finished entries after the TTL and evict the oldest beyond the bound")
+    void claim_ShouldExpireAndEvict() {
+        store.complete(((IdempotencyStore.Owner) store.claim("k1", "a")).entry(), response(201));
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        store.complete(((IdempotencyStore.Owner) store.claim("k2", "b")).entry(), response(201));
+        store.complete(((IdempotencyStore.Owner) store.claim("k3", "c")).entry(), response(201));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.claim("k1", "a")).isInstanceOf(IdempotencyStore.Owner.class);
+
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        assertThat(store.claim("k2", "other")).isInstanceOf(IdempotencyStore.Owner.class);
+    }
+
+    @Test
+    @DisplayName("claim - Should keep evicting finished entries while the oldest is still in flight")
+    void claim_ShouldEvictPastInFlightEntry() {
+        store = new IdempotencyStore(3, Duration.ofSeconds(10), clock::get);
+        IdempotencyStore.Claim slow = store.claim("slow", "s");
+        for (int i = 0; i < 5; i++) {
+            store.complete(((IdempotencyStore.Owner) store.claim("k" + i, "x")).entry(), response(201));
+        }
+
+        assertThat(slow).isInstanceOf(IdempotencyStore.Owner.class);
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.claim("k4", "x")).isInstanceOf(IdempotencyStore.Replay.class);
+        assertThat(store.claim("slow", "s")).isInstanceOf(IdempotencyStore.InFlight.class);
+        assertThat(store.claim("k0", "x")).isInstanceOf(IdempotencyStore.Owner.class);
+    }
+
+    private static StoredResponse response(int status) {
+        return new StoredResponse(status, "application/json", null, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+}
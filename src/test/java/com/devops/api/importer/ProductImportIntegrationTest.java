@@ -0,0 +1,134 @@
+package com.devops.api.importer;
+
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Product CSV Import Integration Tests (Full Spring Context + H2)")
+class ProductImportIntegrationTest {
+
+    private static final String HEADER = "name,description,price,quantity,category\n";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private ProductRepository productRepository;
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /import - Should create valid rows and report invalid ones with line numbers")
+    void import_ShouldCreateValidRows_AndRejectInvalidOnes() throws Exception {
+        JsonNode status = runImport(HEADER
+                + "\"Desk Lamp, LED\",\"Warm \"\"white\"\" light\",24.99,10,Home\n"
+                + "Office Chair,,149.00,0,Furniture\n"
+                + "X,Too short a name,5.00,1,Home\n"
+                + "Bad Price,,abc,1,Home\n");
+
+        assertThat(status.path("state").asText()).isEqualTo("COMPLETED");
+        assertThat(status.path("rowsRead").asLong()).isEqualTo(4);
+        assertThat(status.path("created").asLong()).isEqualTo(2);
+        assertThat(status.path("rejected").asLong()).isEqualTo(2);
+        assertThat(status.path("errors").findValuesAsText("line")).containsExactly("4", "5");
+        assertThat(status.path("errors").get(0).path("message").asText()).startsWith("name:");
+
+        Product lamp = productRepository.findByLowerNameIn(List.of("desk lamp, led")).get(0);
+        assertThat(lamp.getDescription()).isEqualTo("Warm \"white\" light");
+        assertThat(lamp.getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("POST /import - Should update existing products matched by name, ignoring case")
+    void import_ShouldUpdateExistingProductsByName() throws Exception {
+        runImport(HEADER + "Standing Desk,,399.00,5,Furniture\n");
+
+        JsonNode status = runImport(HEADER
+                + "standing desk,Height adjustable,379.00,8,Furniture\n"
+                + "Monitor Arm,,59.00,3,Furniture\n"
+                + "Monitor Arm,,59.00,4,Furniture\n");
+
+        assertThat(status.path("created").asLong()).isEqualTo(1);
+        assertThat(status.path("updated").asLong()).isEqualTo(2);
+        assertThat(productRepository.count()).isEqualTo(2);
+        Product desk = productRepository.findByLowerNameIn(List.of("standing desk")).get(0);
+        assertThat(desk.getQuantity()).isEqualTo(8);
+        assertThat(desk.getPrice()).isEqualByComparingTo("379.00");
+    }
+
+    @Test
+    @DisplayName("POST /import - Should count a re-import that changes nothing as unchanged")
+    void import_ShouldReportUnchanged_WhenRowsMatchStoredProducts() throws Exception {
+        runImport(HEADER + "Standing Desk,,399.00,5,Furniture\n");
+        Long version = productRepository.findByLowerNameIn(List.of("standing desk")).get(0).getVersion();
+
+        // Same values, but the price is written without its trailing zeros
+        JsonNode status = runImport(HEADER + "Standing Desk,,399,5,Furniture\n");
+
+        assertThat(status.path("updated").asLong()).isZero();
+        assertThat(status.path("unchanged").asLong()).isEqualTo(1);
+        assertThat(productRepository.findByLowerNameIn(List.of("standing desk")).get(0).getVersion())
+                .isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("POST /import - Should fail the job when required columns are missing")
+    void import_ShouldFail_WhenHeaderIsIncomplete() throws Exception {
+        JsonNode status = runImport("name,price\nLamp,1.00\n");
+
+        assertThat(status.path("state").asText()).isEqualTo("FAILED");
+        assertThat(status.path("failure").asText()).contains("quantity", "category");
+    }
+
+    @Test
+    @DisplayName("GET /import/{id} - Unknown job returns 404")
+    void status_Returns404_ForUnknownJob() throws Exception {
+        mockMvc.perform(get("/api/v1/products/import/does-not-exist"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success", is(false)));
+    }
+
+    private JsonNode runImport(String csv) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        String body = mockMvc.perform(multipart("/api/v1/products/import").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("/api/v1/products/import/")))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(body).path("data").path("id").asText();
+
+        AtomicReference<JsonNode> status = new AtomicReference<>();
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            String json = mockMvc.perform(get("/api/v1/products/import/" + jobId))
+                    .andReturn().getResponse().getContentAsString();
+            status.set(objectMapper.readTree(json).path("data"));
+            return !status.get().path("finishedAt").isNull();
+        });
+        return status.get();
+    }
+}
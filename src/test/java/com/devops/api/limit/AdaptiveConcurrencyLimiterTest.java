@@ -0,0 +1,79 @@
+package com.devops.api.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Adaptive Concurrency Limiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("tryAcquire - Should reject once in-flight reaches the limit")
+    void tryAcquire_ShouldReject_AtLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties.Limit(2, 1, 10));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+
+        limiter.release(FAST, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("release - Should raise the limit while latency stays flat under load")
+    void release_ShouldGrowLimit_WhenLatencyStable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties.Limit(10, 2, 100));
+
+        runAtFullLoad(limiter, FAST, 50);
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("release - Should lower the limit when latency climbs above the baseline")
+    void release_ShouldShrinkLimit_WhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties.Limit(50, 2, 100));
+        runAtFullLoad(limiter, FAST, 5);
+        int before = limiter.getLimit();
+
+        runAtFullLoad(limiter, SLOW, 50);
+
+        assertThat(limiter.getLimit()).isLessThan(before);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("release - Should back off multiplicatively on server errors")
+    void release_ShouldBackOff_OnOverload() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties.Limit(20, 2, 100));
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    private static void runAtFullLoad(AdaptiveConcurrencyLimiter limiter, long rtt, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rtt, false);
+            }
+        }
+    }
+}
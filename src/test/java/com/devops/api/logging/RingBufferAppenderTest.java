@@ -0,0 +1,140 @@
+package com.devops.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Ring Buffer Appender Unit Tests")
+class RingBufferAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+    }
+
+    @Test
+    @DisplayName("LogRingBuffer - Should hand every element to the consumer exactly once under contention")
+    void ringBuffer_ShouldNotLoseOrDuplicate_WithConcurrentProducers() throws Exception {
+        LogRingBuffer<Integer> ring = new LogRingBuffer<>(1000);
+        assertThat(ring.capacity()).isEqualTo(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers + 1);
+        try {
+            Future<?> consumer = pool.submit(() -> {
+                while (received.size() < producers * perProducer) {
+                    Integer value = ring.poll();
+                    if (value != null) {
+                        assertThat(received.add(value)).isTrue();
+                    }
+                }
+            });
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                pool.submit(() -> IntStream.range(base, base + perProducer).forEach(value -> {
+                    while (!ring.offer(value)) {
+                        Thread.onSpinWait();
+                    }
+                }));
+            }
+            consumer.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(ring.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("append - Should drop INFO events when full but keep WARN events")
+    void append_ShouldDropBelowNeverDropLevel_WhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        List<ILoggingEvent> written = new CopyOnWriteArrayList<>();
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(event);
+            }
+        };
+        slow.setContext(context);
+        slow.start();
+
+        RingBufferAppender appender = new RingBufferAppender();
+        appender.setContext(context);
+        appender.setName("test");
+        appender.setCapacity(2);
+        appender.addAppender(slow);
+        appender.start();
+
+        appender.doAppend(event(Level.INFO, "first"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();   // writer is now stuck on "first"
+        appender.doAppend(event(Level.INFO, "second"));
+        appender.doAppend(event(Level.INFO, "third"));
+        appender.doAppend(event(Level.INFO, "dropped"));
+        assertThat(appender.getDropped()).isEqualTo(1);
+        assertThat(appender.getQueued()).isEqualTo(2);
+
+        Thread warner = new Thread(() -> appender.doAppend(event(Level.WARN, "kept")));
+        warner.start();
+        await().atMost(Duration.ofSeconds(5)).until(() -> appender.getBlocked() == 1);
+        release.countDown();
+        warner.join(5_000);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> written.size() == 4);
+        assertThat(written).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("first", "second", "third", "kept");
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("RequestLogSampler - Should always log errors and slow requests, and honor per-operation rates")
+    void sampler_ShouldPrioritizeErrorsAndSlowRequests() {
+        RequestLogProperties properties = new RequestLogProperties();
+        properties.setSampleRate(0.0);
+        properties.setOperations(Map.of("deleteProduct", 1.0));
+        RequestLogSampler sampler = new RequestLogSampler(properties);
+        long fast = Duration.ofMillis(1).toNanos();
+
+        assertThat(sampler.shouldLog("getProductById", 200, fast)).isFalse();
+        assertThat(sampler.shouldLog("getProductById", 404, fast)).isTrue();
+        assertThat(sampler.shouldLog("getProductById", 200, Duration.ofSeconds(1).toNanos())).isTrue();
+        assertThat(sampler.shouldLog("deleteProduct", 200, fast)).isTrue();
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, message, null, null);
+    }
+}
@@ -0,0 +1,110 @@
+package com.devops.api.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Pool Profiler Unit Tests")
+class PoolProfilerTest {
+
+    private static final String CALLER = "com.devops.api.service.ProductServiceImpl.getProductById";
+
+    private HikariDataSource pool;
+    private PoolProfiler profiler;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:pool-profiler;DB_CLOSE_DELAY=-1");
+        pool.setPoolName("TestPool");
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(250);
+
+        PoolProfilerProperties properties = new PoolProfilerProperties();
+        properties.setLongHoldThreshold(Duration.ofMillis(20));
+        properties.setScanInterval(Duration.ofHours(1));
+        properties.setCaptureAcquireStack(true);
+        profiler = new PoolProfiler(properties, new SimpleMeterRegistry());
+        dataSource = profiler.instrument(pool);
+
+        // Stands in for the name Spring gives a @Transactional method's transaction
+        TransactionSynchronizationManager.setCurrentTransactionName(CALLER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+        profiler.shutdown();
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("released - Should attribute hold and idle time to the calling method")
+    void released_ShouldAttributeHoldAndIdleTime() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+            Thread.sleep(50);
+        }
+
+        PoolReport report = profiler.report();
+
+        assertThat(report.callers()).singleElement().satisfies(usage -> {
+            assertThat(usage.pool()).isEqualTo("TestPool");
+            assertThat(usage.caller()).isEqualTo("ProductServiceImpl.getProductById");
+            assertThat(usage.acquisitions()).isEqualTo(1);
+            assertThat(usage.maxHoldMs()).isGreaterThanOrEqualTo(50);
+            assertThat(usage.maxIdleMs()).isGreaterThanOrEqualTo(45).isLessThanOrEqualTo(usage.maxHoldMs());
+        });
+        assertThat(report.pools()).singleElement().satisfies(state -> assertThat(state.holders()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("scan - Should report a long hold with the holder's stack and list it as a holder")
+    void scan_ShouldReportLongHold() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(30);
+            profiler.scan();
+
+            PoolReport report = profiler.report();
+
+            assertThat(report.pools()).singleElement().satisfies(state -> {
+                assertThat(state.active()).isEqualTo(1);
+                assertThat(state.holders()).singleElement().satisfies(holder ->
+                        assertThat(holder.caller()).isEqualTo("ProductServiceImpl.getProductById"));
+            });
+            assertThat(report.recentLongHolds()).singleElement().satisfies(hold -> {
+                assertThat(hold.leak()).isFalse();
+                assertThat(hold.stack()).anyMatch(frame -> frame.contains("scan_ShouldReportLongHold"));
+                assertThat(hold.acquireStack()).anyMatch(frame -> frame.contains("scan_ShouldReportLongHold"));
+            });
+        }
+        assertThat(profiler.report().callers()).singleElement()
+                .satisfies(usage -> assertThat(usage.longHolds()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("acquireFailed - Should count connection timeouts against the caller")
+    void acquireFailed_ShouldCountTimeouts() throws Exception {
+        try (Connection held = dataSource.getConnection()) {
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        }
+
+        assertThat(profiler.report().callers()).singleElement().satisfies(usage -> {
+            assertThat(usage.timeouts()).isEqualTo(1);
+            assertThat(usage.acquisitions()).isEqualTo(1);
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.devops.api.profiling;
+
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.profiling.token=s3cret",
+        "app.profiling.directory=${java.io.tmpdir}/products-jfr-test-${random.uuid}"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Profiling Endpoint Integration Tests (Full Spring Context + H2)")
+class ProfilingEndpointIntegrationTest {
+
+    private static final String AUTH = "Bearer s3cret";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ProductRepository productRepository;
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /actuator/profiling - 401 without the bearer token")
+    void start_Returns401_WithoutToken() throws Exception {
+        mockMvc.perform(post("/actuator/profiling"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+
+        mockMvc.perform(get("/actuator/profiling").header(HttpHeaders.AUTHORIZATION, "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Profiling - Should record handlers and queries and serve the report and .jfr file")
+    void recording_ShouldReportEndpointsAndQueries() throws Exception {
+        Product product = productRepository.save(Product.builder()
+                .name("Profiled").price(new BigDecimal("5.00")).quantity(1).category("Tools").build());
+
+        String started = mockMvc.perform(post("/actuator/profiling").header(HttpHeaders.AUTHORIZATION, AUTH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"duration\": \"60s\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.state", is("RUNNING")))
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(started, "$.id")).longValue();
+
+        mockMvc.perform(post("/actuator/profiling").header(HttpHeaders.AUTHORIZATION, AUTH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isConflict());
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/products/{id}", product.getId())).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(delete("/actuator/profiling/{id}", id).header(HttpHeaders.AUTHORIZATION, AUTH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("FINISHED")))
+                .andExpect(jsonPath("$.report.topAllocatingEndpoints[*].handler",
+                        hasItem("ProductController.getProductById")))
+                .andExpect(jsonPath("$.report.topAllocatingEndpoints[?(@.handler == 'ProductController.getProductById')].requests",
+                        hasItem(5)))
+                .andExpect(jsonPath("$.report.jdbc.topQueries[*].query", hasItem("ProductRepository.findById")))
+                .andExpect(jsonPath("$.report.gc").exists());
+
+        byte[] jfr = mockMvc.perform(get("/actuator/profiling/{id}/jfr", id).header(HttpHeaders.AUTHORIZATION, AUTH))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(new String(jfr, 0, 4)).isEqualTo("FLR\0");
+    }
+}
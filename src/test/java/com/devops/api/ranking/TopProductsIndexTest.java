@@ -0,0 +1,116 @@
+package com.devops.api.ranking;
+
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Top Products Index Unit Tests")
+class TopProductsIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ProductCatalogIndex index;
+    private TopProductsIndex topProducts;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        index = new ProductCatalogIndex(registry);
+        topProducts = new TopProductsIndex(index, registry);
+    }
+
+    @Test
+    @DisplayName("topPerCategory - Should return the cheapest, most stocked and newest per category")
+    void topPerCategory_ShouldRankEachCategory() {
+        index.onProductChange(ProductChangeEvent.created(snapshot(1L, "Books", "12.00", 5, 1)));
+        index.onProductChange(ProductChangeEvent.created(snapshot(2L, "Books", "8.00", 40, 2)));
+        index.onProductChange(ProductChangeEvent.created(snapshot(3L, "Books", "30.00", 12, 3)));
+        index.onProductChange(ProductChangeEvent.created(snapshot(4L, "Toys", "3.00", 1, 4)));
+
+        assertThat(ids(topProducts.topPerCategory(RankField.PRICE, Sort.Direction.ASC, 2)))
+                .containsExactly(Map.entry("Books", List.of(2L, 1L)), Map.entry("Toys", List.of(4L)));
+        assertThat(ids(topProducts.topPerCategory(RankField.QUANTITY, Sort.Direction.DESC, 2)).get("Books"))
+                .containsExactly(2L, 3L);
+        assertThat(ids(topProducts.topPerCategory(RankField.CREATED_AT, Sort.Direction.DESC, 1)).get("Books"))
+                .containsExactly(3L);
+        assertThat(topProducts.top(RankField.PRICE, Sort.Direction.ASC, 2))
+                .extracting(ProductSnapshot::id).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("onChange - Should re-rank on update and drop emptied categories from results")
+    void onChange_ShouldReRank_OnUpdateAndDelete() {
+        ProductSnapshot cheap = snapshot(1L, "Books", "5.00", 5, 1);
+        index.onProductChange(ProductChangeEvent.created(cheap));
+        index.onProductChange(ProductChangeEvent.created(snapshot(2L, "Books", "8.00", 5, 2)));
+        ProductSnapshot repriced = snapshot(1L, "Books", "50.00", 5, 1);
+        index.onProductChange(ProductChangeEvent.updated(cheap, repriced));
+
+        assertThat(ids(topProducts.topPerCategory(RankField.PRICE, Sort.Direction.ASC, 1)).get("Books"))
+                .containsExactly(2L);
+
+        ProductSnapshot moved = snapshot(1L, "Comics", "50.00", 5, 1);
+        index.onProductChange(ProductChangeEvent.updated(repriced, moved));
+        index.onProductChange(ProductChangeEvent.deleted(snapshot(2L, "Books", "8.00", 5, 2)));
+
+        assertThat(topProducts.topPerCategory(RankField.PRICE, Sort.Direction.ASC, 10)).containsOnlyKeys("Comics");
+    }
+
+    @Test
+    @DisplayName("topPerCategory - Should match a full sort of the catalog for every field and direction")
+    void topPerCategory_ShouldMatchFullSort() {
+        Random random = new Random(42);
+        for (long id = 1; id <= 500; id++) {
+            ProductSnapshot created = snapshot(id, "Category " + random.nextInt(8),
+                    random.nextInt(50) + ".00", random.nextInt(20), random.nextInt(100));
+            index.onProductChange(ProductChangeEvent.created(created));
+            if (id % 4 == 0) {
+                index.onProductChange(ProductChangeEvent.updated(created, snapshot(id, "Category " + random.nextInt(8),
+                        random.nextInt(50) + ".00", random.nextInt(20), random.nextInt(100))));
+            }
+        }
+
+        for (RankField field : RankField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                Comparator<ProductSnapshot> order = direction.isAscending()
+                        ? field.ascending() : field.ascending().reversed();
+                Map<String, List<Long>> expected = index.snapshot().stream()
+                        .sorted(order)
+                        .collect(Collectors.groupingBy(ProductSnapshot::category, TreeMap::new,
+                                Collectors.collectingAndThen(Collectors.toList(),
+                                        products -> products.stream().limit(3).map(ProductSnapshot::id).toList())));
+
+                assertThat(ids(topProducts.topPerCategory(field, direction, 3))).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static Map<String, List<Long>> ids(Map<String, List<ProductSnapshot>> top) {
+        Map<String, List<Long>> ids = new TreeMap<>();
+        top.forEach((category, products) ->
+                ids.put(category, new ArrayList<>(products.stream().map(ProductSnapshot::id).toList())));
+        return ids;
+    }
+
+    private static ProductSnapshot snapshot(long id, String category, String price, int quantity, int day) {
+        LocalDateTime created = BASE.plusDays(day);
+        return new ProductSnapshot(id, "Product " + id, null, new BigDecimal(price), quantity, category, created, created);
+    }
+}
@@ -0,0 +1,109 @@
+package com.devops.api.ranking;
+
+import com.devops.api.dto.ProductDTO;
+import com.devops.api.model.Product;
+import com.devops.api.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Top Products Integration Tests (Full Spring Context + H2)")
+class TopProductsIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private ProductRepository productRepository;
+
+    @BeforeEach
+    void seed() throws Exception {
+        // Created through the API so the in-memory index sees them too
+        create("Top Novel", "19.99", 3, "TopBooks");
+        create("Top Atlas", "10.05", 12, "TopBooks");
+        create("Top Cookbook", "25.00", 0, "TopBooks");
+        create("Top Cable", "9.99", 2, "TopAccessories");
+        create("Top Case", "14.50", 40, "TopAccessories");
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        // Deleted through the API as well, so no stale entries stay ranked for the next test
+        for (Product product : productRepository.findAll()) {
+            mockMvc.perform(delete("/api/v1/products/" + product.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /top?perCategory=true - Should return the top n of each category")
+    void getTopPerCategory_ShouldRankEachCategory() throws Exception {
+        mockMvc.perform(get("/api/v1/products/top")
+                        .param("by", "price").param("n", "2").param("perCategory", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.TopBooks[*].name", contains("Top Atlas", "Top Novel")))
+                .andExpect(jsonPath("$.data.TopAccessories[*].name", contains("Top Cable", "Top Case")));
+
+        mockMvc.perform(get("/api/v1/products/top")
+                        .param("by", "quantity").param("n", "1").param("perCategory", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.TopBooks[*].name", contains("Top Atlas")))
+                .andExpect(jsonPath("$.data.TopAccessories[*].name", contains("Top Case")));
+    }
+
+    @Test
+    @DisplayName("findTopPerCategory - Windowed query should agree with the index")
+    void findTopPerCategory_ShouldMatchIndex() {
+        List<Product> ranked = productRepository.findTopPerCategory(RankField.PRICE, Sort.Direction.ASC, 2);
+
+        assertThat(ranked).filteredOn(product -> product.getCategory().startsWith("Top"))
+                .extracting(Product::getName)
+                .containsExactly("Top Cable", "Top Case", "Top Atlas", "Top Novel");
+
+        List<Product> stocked = productRepository.findTopPerCategory(RankField.QUANTITY, Sort.Direction.DESC, 1);
+        assertThat(stocked).filteredOn(product -> product.getCategory().startsWith("Top"))
+                .extracting(Product::getName)
+                .containsExactly("Top Case", "Top Atlas");
+    }
+
+    @Test
+    @DisplayName("GET /top - Should reject an unknown field or an out-of-range n with 400")
+    void getTop_ShouldRejectInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/v1/products/top").param("by", "name"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success", is(false)));
+
+        mockMvc.perform(get("/api/v1/products/top").param("n", "0").param("perCategory", "true"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void create(String name, String price, int quantity, String category) throws Exception {
+        ProductDTO dto = ProductDTO.builder()
+                .name(name)
+                .price(new BigDecimal(price))
+                .quantity(quantity)
+                .category(category)
+                .build();
+        mockMvc.perform(post("/api/v1/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+    }
+}
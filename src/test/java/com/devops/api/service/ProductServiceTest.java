@@ -1,7 +1,15 @@
 package com.devops.api.service;
 
+import com.devops.api.cache.MissingIdCache;
+import com.devops.api.cache.ProductListCache;
+import com.devops.api.catalog.ProductNameFilter;
 import com.devops.api.dto.ProductDTO;
+import com.devops.api.dto.ProductPatchDTO;
+import com.devops.api.event.ChangeType;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.exception.ConcurrentUpdateException;
 import com.devops.api.exception.DuplicateResourceException;
+import com.devops.api.exception.PreconditionFailedException;
 import com.devops.api.exception.ResourceNotFoundException;
 import com.devops.api.model.Product;
 import com.devops.api.repository.ProductRepository;
@@ -9,10 +17,14 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -25,6 +37,18 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProductListCache listCache;
+
+    @Mock
+    private ProductNameFilter nameFilter;
+
+    @Mock
+    private MissingIdCache missingIds;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -33,6 +57,16 @@ class ProductServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Pass-through cache: always load from the repository
+        lenient().when(listCache.byCategory(anyString(), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<Product>>>getArgument(1).get());
+        lenient().when(listCache.inStock(any()))
+                .thenAnswer(inv -> inv.<Supplier<List<Product>>>getArgument(0).get());
+        lenient().when(listCache.outOfStock(any()))
+                .thenAnswer(inv -> inv.<Supplier<List<Product>>>getArgument(0).get());
+        // Filter that never rules a name out: every check reaches the repository
+        lenient().when(nameFilter.mightContain(anyString())).thenReturn(true);
+
         mockProduct = Product.builder()
                 .id(1L)
                 .name("Test Product")
@@ -64,6 +98,9 @@ class ProductServiceTest {
         assertThat(result.getName()).isEqualTo("Test Product");
         assertThat(result.getPrice()).isEqualByComparingTo("99.99");
         verify(productRepository).save(any(Product.class));
+        verify(missingIds).invalidate(1L);
+        verify(eventPublisher).publishEvent(argThat((ProductChangeEvent e) ->
+                e.type() == ChangeType.CREATED && e.productId() == 1L));
     }
 
     @Test
@@ -76,6 +113,44 @@ class ProductServiceTest {
                 .hasMessageContaining("Test Product");
 
         verify(productRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("createProduct - Should skip the duplicate query when the name filter rules the name out")
+    void createProduct_ShouldSkipExistsQuery_WhenFilterSaysAbsent() {
+        when(nameFilter.mightContain("Test Product")).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenReturn(mockProduct);
+
+        productService.createProduct(mockProductDTO);
+
+        verify(productRepository, never()).existsByNameIgnoreCase(anyString());
+        verify(productRepository).flush();
+    }
+
+    @Test
+    @DisplayName("createProduct - Should map a unique-index violation to DuplicateResourceException")
+    void createProduct_ShouldThrowDuplicate_WhenUniqueIndexRejectsInsert() {
+        when(nameFilter.mightContain("Test Product")).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("duplicate key", "23505")));
+
+        assertThatThrownBy(() -> productService.createProduct(mockProductDTO))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("Test Product");
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("createProduct - Should rethrow integrity violations other than duplicates")
+    void createProduct_ShouldRethrow_WhenOtherIntegrityViolation() {
+        when(productRepository.existsByNameIgnoreCase("Test Product")).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("check violation", "23514")));
+
+        assertThatThrownBy(() -> productService.createProduct(mockProductDTO))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -98,6 +173,18 @@ class ProductServiceTest {
         assertThatThrownBy(() -> productService.getProductById(99L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("99");
+        verify(missingIds).recordMissing(eq(99L), anyLong());
+    }
+
+    @Test
+    @DisplayName("getProductById - Should skip the query when the id is known missing")
+    void getProductById_ShouldSkipQuery_WhenKnownMissing() {
+        when(missingIds.isMissing(99L)).thenReturn(true);
+
+        assertThatThrownBy(() -> productService.getProductById(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+        verify(productRepository, never()).findById(any());
     }
 
     @Test
@@ -165,6 +252,22 @@ class ProductServiceTest {
         assertThat(result.getPrice()).isEqualByComparingTo("149.99");
     }
 
+    @Test
+    @DisplayName("updateProduct - Should publish STOCK_CHANGED when only quantity changes")
+    void updateProduct_ShouldPublishStockChanged_WhenOnlyQuantityChanges() {
+        mockProductDTO.setQuantity(0);
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(mockProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        productService.updateProduct(1L, mockProductDTO);
+
+        verify(eventPublisher).publishEvent(argThat((ProductChangeEvent e) ->
+                e.type() == ChangeType.STOCK_CHANGED
+                        && e.before().quantity() == 10
+                        && e.after().quantity() == 0));
+    }
+
     @Test
     @DisplayName("updateProduct - Should throw when product not found")
     void updateProduct_ShouldThrowNotFound_WhenProductMissing() {
@@ -174,25 +277,71 @@ class ProductServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("patchProduct - Should issue one targeted update and publish the merged state")
+    void patchProduct_ShouldUpdateOnlyPatchedFields() {
+        mockProduct.setVersion(3L);
+        ProductPatchDTO patch = ProductPatchDTO.builder().quantity(0).build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(mockProduct));
+        when(productRepository.patch(eq(1L), eq(3L), eq(patch), any())).thenReturn(1);
+
+        Product result = productService.patchProduct(1L, patch, 3L);
+
+        assertThat(result.getQuantity()).isZero();
+        assertThat(result.getPrice()).isEqualByComparingTo("99.99");
+        assertThat(result.getVersion()).isEqualTo(4L);
+        verify(productRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(argThat((ProductChangeEvent e) ->
+                e.type() == ChangeType.STOCK_CHANGED && e.after().quantity() == 0));
+    }
+
+    @Test
+    @DisplayName("patchProduct - Should throw PreconditionFailedException when If-Match is stale")
+    void patchProduct_ShouldThrowPreconditionFailed_WhenVersionStale() {
+        mockProduct.setVersion(3L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(mockProduct));
+
+        assertThatThrownBy(() -> productService.patchProduct(1L, ProductPatchDTO.builder().quantity(1).build(), 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(productRepository, never()).patch(any(), anyLong(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("patchProduct - Should throw ConcurrentUpdateException when the row changed after it was read")
+    void patchProduct_ShouldThrowConflict_WhenUpdateMatchesNoRow() {
+        mockProduct.setVersion(3L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(mockProduct));
+        when(productRepository.patch(eq(1L), eq(3L), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> productService.patchProduct(1L, ProductPatchDTO.builder().quantity(1).build(), null))
+                .isInstanceOf(ConcurrentUpdateException.class);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("deleteProduct - Should delete when product exists")
     void deleteProduct_ShouldDelete_WhenExists() {
-        when(productRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(productRepository).deleteById(1L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(mockProduct));
+        doNothing().when(productRepository).delete(mockProduct);
 
         assertThatCode(() -> productService.deleteProduct(1L)).doesNotThrowAnyException();
-        verify(productRepository).deleteById(1L);
+        verify(productRepository).delete(mockProduct);
+        verify(eventPublisher).publishEvent(argThat((ProductChangeEvent e) ->
+                e.type() == ChangeType.DELETED && "Electronics".equals(e.category())));
     }
 
     @Test
     @DisplayName("deleteProduct - Should throw when product not found")
     void deleteProduct_ShouldThrowNotFound_WhenMissing() {
-        when(productRepository.existsById(99L)).thenReturn(false);
+        when(productRepository.findById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> productService.deleteProduct(99L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("99");
 
-        verify(productRepository, never()).deleteById(any());
+        verify(productRepository, never()).delete(any());
     }
 }
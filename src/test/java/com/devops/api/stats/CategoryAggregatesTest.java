@@ -0,0 +1,94 @@
+package com.devops.api.stats;
+
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import com.devops.api.stock.StockThresholds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Category Aggregates Unit Tests")
+class CategoryAggregatesTest {
+
+    private ProductCatalogIndex index;
+    private CategoryAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        index = new ProductCatalogIndex(registry);
+        aggregates = new CategoryAggregates(new StockThresholds(), index, registry);
+    }
+
+    @Test
+    @DisplayName("snapshot - Should sum count, units, value and stock buckets per category")
+    void snapshot_ShouldSumPerCategory() {
+        index.onProductChange(ProductChangeEvent.created(snapshot(1L, "Electronics", "999.99", 10)));
+        index.onProductChange(ProductChangeEvent.created(snapshot(2L, "Electronics", "49.50", 3)));
+        index.onProductChange(ProductChangeEvent.created(snapshot(3L, "Electronics", "5.00", 0)));
+        index.onProductChange(ProductChangeEvent.created(snapshot(4L, "Books", "12.00", 30)));
+
+        List<CategoryStats> stats = aggregates.snapshot();
+
+        assertThat(stats).extracting(CategoryStats::category).containsExactly("Books", "Electronics");
+        CategoryStats electronics = stats.get(1);
+        assertThat(electronics.productCount()).isEqualTo(3);
+        assertThat(electronics.totalUnits()).isEqualTo(13);
+        assertThat(electronics.inventoryValue()).isEqualByComparingTo("10148.40");
+        assertThat(electronics.lowStockCount()).isEqualTo(1);
+        assertThat(electronics.outOfStockCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onChange - Should move totals when a product changes category and drop empty categories")
+    void onChange_ShouldApplyDeltas_OnUpdateAndDelete() {
+        ProductSnapshot laptop = snapshot(1L, "Electronics", "100.00", 4);
+        index.onProductChange(ProductChangeEvent.created(laptop));
+        ProductSnapshot moved = snapshot(1L, "Computers", "100.00", 25);
+        index.onProductChange(ProductChangeEvent.updated(laptop, moved));
+
+        assertThat(aggregates.snapshot()).singleElement().satisfies(stats -> {
+            assertThat(stats.category()).isEqualTo("Computers");
+            assertThat(stats.inventoryValue()).isEqualByComparingTo("2500.00");
+            assertThat(stats.lowStockCount()).isZero();
+        });
+
+        index.onProductChange(ProductChangeEvent.deleted(moved));
+
+        assertThat(aggregates.snapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("recompute - Should match the incrementally maintained totals")
+    void recompute_ShouldMatchIncrementalTotals() {
+        for (long id = 1; id <= 200; id++) {
+            ProductSnapshot created = snapshot(id, "Category " + (id % 7), "1.25", (int) (id % 9));
+            index.onProductChange(ProductChangeEvent.created(created));
+            if (id % 3 == 0) {
+                index.onProductChange(ProductChangeEvent.updated(created,
+                        snapshot(id, "Category " + (id % 5), "2.50", (int) (id % 4))));
+            }
+        }
+        List<CategoryStats> incremental = aggregates.snapshot();
+
+        aggregates.recompute();
+
+        assertThat(aggregates.snapshot())
+                .usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(incremental);
+    }
+
+    private static ProductSnapshot snapshot(long id, String category, String price, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ProductSnapshot(id, "Product " + id, null, new BigDecimal(price), quantity, category, now, now);
+    }
+}
@@ -0,0 +1,97 @@
+package com.devops.api.stock;
+
+import com.devops.api.catalog.ProductCatalogIndex;
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Stock Summary Materializer Unit Tests")
+class StockSummaryMaterializerTest {
+
+    private ProductCatalogIndex index;
+    private StockThresholds thresholds;
+    private StockSummaryMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StockSummaryProperties properties = new StockSummaryProperties();
+        properties.setRefreshInterval(Duration.ofHours(1));
+        thresholds = new StockThresholds();
+        index = new ProductCatalogIndex(registry);
+        materializer = new StockSummaryMaterializer(index, thresholds, properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        materializer.shutdown();
+    }
+
+    @Test
+    @DisplayName("refresh - Should bucket products like the V3 view")
+    void refresh_ShouldCountPerStatusAndCategory() {
+        add(1L, "Electronics", 0);
+        add(2L, "Electronics", 5);
+        add(3L, "Electronics", 6);
+        add(4L, "Books", 20);
+        add(5L, "Books", 21);
+        add(6L, "Books", 2);
+
+        StockSummary summary = materializer.refresh();
+
+        assertThat(summary.totals()).containsEntry(StockStatus.OUT_OF_STOCK, 1L)
+                .containsEntry(StockStatus.LOW_STOCK, 2L)
+                .containsEntry(StockStatus.IN_STOCK, 2L)
+                .containsEntry(StockStatus.WELL_STOCKED, 1L);
+        assertThat(summary.byCategory().get("Books"))
+                .containsEntry(StockStatus.LOW_STOCK, 1L)
+                .doesNotContainKey(StockStatus.OUT_OF_STOCK);
+        assertThat(summary.items(StockStatus.LOW_STOCK, null))
+                .extracting(StockSummaryItem::id).containsExactly(6L, 2L);
+        assertThat(summary.items(StockStatus.LOW_STOCK, "electronics"))
+                .extracting(StockSummaryItem::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("refresh - Should honour configured thresholds")
+    void refresh_ShouldUseConfiguredThresholds() {
+        thresholds.setLowStockMax(10);
+        thresholds.setInStockMax(100);
+        add(1L, "Electronics", 8);
+        add(2L, "Electronics", 50);
+
+        StockSummary summary = materializer.refresh();
+
+        assertThat(summary.totals()).containsEntry(StockStatus.LOW_STOCK, 1L)
+                .containsEntry(StockStatus.IN_STOCK, 1L)
+                .containsEntry(StockStatus.WELL_STOCKED, 0L);
+    }
+
+    @Test
+    @DisplayName("current - Should keep serving the materialized result until the next refresh")
+    void current_ShouldNotSeeWritesBeforeRefresh() {
+        add(1L, "Electronics", 3);
+        StockSummary before = materializer.current();
+
+        add(2L, "Electronics", 0);
+
+        assertThat(materializer.current()).isSameAs(before);
+        assertThat(materializer.refresh().totals()).containsEntry(StockStatus.OUT_OF_STOCK, 1L);
+    }
+
+    private void add(long id, String category, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        index.onProductChange(ProductChangeEvent.created(new ProductSnapshot(
+                id, "Product " + id, null, new BigDecimal("9.99"), quantity, category, now, now)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.devops.api.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Event Ring Buffer Unit Tests")
+class EventRingBufferTest {
+
+    @Test
+    @DisplayName("offer - Should reject when full and keep existing elements")
+    void offer_ShouldReject_WhenFull() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(2);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("offerDropOldest - Should evict oldest element when full")
+    void offerDropOldest_ShouldEvictOldest_WhenFull() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(3);
+
+        for (int i = 1; i <= 3; i++) {
+            assertThat(buffer.offerDropOldest(i)).isFalse();
+        }
+        assertThat(buffer.offerDropOldest(4)).isTrue();
+        assertThat(buffer.offerDropOldest(5)).isTrue();
+
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.poll()).isEqualTo(3);
+        assertThat(buffer.poll()).isEqualTo(4);
+        assertThat(buffer.poll()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("constructor - Should reject non-positive capacity")
+    void constructor_ShouldReject_ZeroCapacity() {
+        assertThatThrownBy(() -> new EventRingBuffer<>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
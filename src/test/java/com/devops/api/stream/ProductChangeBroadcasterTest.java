@@ -0,0 +1,201 @@
+package com.devops.api.stream;
+
+import com.devops.api.event.ProductChangeEvent;
+import com.devops.api.event.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Product Change Broadcaster Unit Tests")
+class ProductChangeBroadcasterTest {
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final StreamProperties properties = new StreamProperties();
+    private SimpleMeterRegistry meterRegistry;
+    private ProductChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBufferSize(2);
+        properties.setDispatchThreads(2);
+        properties.setHeartbeatInterval(Duration.ofMinutes(5));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(RecordingEmitter::release);
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("onProductChange - Should drop the oldest buffered events for a slow DROP_OLDEST subscriber")
+    void onProductChange_ShouldDropOldest_WhenBufferOverflows() {
+        start();
+        broadcaster.subscribe(ChangeFilter.ALL, OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.block();
+
+        publish(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.attempts() == 1);
+        for (long id = 2; id <= 5; id++) {
+            publish(id);
+        }
+
+        assertThat(meterRegistry.counter("products.stream.dropped").count()).isEqualTo(2);
+        emitter.release();
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.sent().size() == 3);
+        assertThat(emitter.sent().stream().map(ProductChangeBroadcasterTest::sequence))
+                .containsExactly("1", "4", "5");
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onProductChange - Should disconnect a slow DISCONNECT subscriber once its buffer is full")
+    void onProductChange_ShouldDisconnect_WhenBufferOverflows() {
+        start();
+        broadcaster.subscribe(ChangeFilter.ALL, OverflowPolicy.DISCONNECT);
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.block();
+
+        publish(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.attempts() == 1);
+        publish(2);
+        publish(3);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+
+        publish(4);
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+        assertThat(emitter.isCompleted()).isTrue();
+        assertThat(meterRegistry.counter("products.stream.disconnects", "reason", "slow-consumer").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("onProductChange - Should close the subscription when a send fails")
+    void onProductChange_ShouldClose_WhenSendFails() {
+        start();
+        broadcaster.subscribe(ChangeFilter.ALL, OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.failSends();
+
+        publish(1);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> broadcaster.subscriberCount() == 0);
+        assertThat(emitter.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("heartbeat - Should keep reaching other subscribers while one is stuck writing")
+    void heartbeat_ShouldNotBeBlockedBySlowSubscriber() {
+        properties.setHeartbeatInterval(Duration.ofMillis(20));
+        start();
+        broadcaster.subscribe(ChangeFilter.ALL, OverflowPolicy.DROP_OLDEST);
+        broadcaster.subscribe(ChangeFilter.ALL, OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter stuck = emitters.get(0);
+        RecordingEmitter healthy = emitters.get(1);
+        stuck.block();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> stuck.attempts() >= 1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> healthy.sent().size() >= 3);
+
+        assertThat(healthy.sent()).allMatch(event -> event.contains(":keep-alive"));
+        assertThat(stuck.attempts()).isEqualTo(1);
+    }
+
+    private void start() {
+        broadcaster = new ProductChangeBroadcaster(properties, meterRegistry, timeout -> {
+            RecordingEmitter emitter = new RecordingEmitter(timeout);
+            emitters.add(emitter);
+            return emitter;
+        });
+    }
+
+    private void publish(long productId) {
+        ProductSnapshot product = new ProductSnapshot(productId, "Product " + productId, null,
+                new BigDecimal("9.99"), 1, "Home", null, null);
+        broadcaster.onProductChange(ProductChangeEvent.created(product));
+    }
+
+    private static String sequence(String event) {
+        int start = event.indexOf("id:") + 3;
+        return event.substring(start, event.indexOf('\n', start));
+    }
+
+    /** Records what would go over the wire; can stall inside a send or fail it, like a real slow or dead client. */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile boolean failing;
+        private volatile boolean completed;
+        private volatile int attempts;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts++;
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted", ex);
+            }
+            sent.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void failSends() {
+            failing = true;
+        }
+
+        int attempts() {
+            return attempts;
+        }
+
+        List<String> sent() {
+            return new ArrayList<>(sent);
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+    }
+}